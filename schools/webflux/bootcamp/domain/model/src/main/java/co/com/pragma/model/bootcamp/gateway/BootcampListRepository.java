@@ -7,6 +7,17 @@ import reactor.core.publisher.Mono;
 
 public interface BootcampListRepository {
 
-    Mono<BootcampPage> findAll(int page, int size, BootcampSortField sortField, SortDirection sortDirection);
+    /**
+     * Consulta una página de bootcamps
+     * @param withCount si es false no se calcula el total y totalElements queda nulo
+     * @return Mono con la página de bootcamps
+     */
+    Mono<BootcampPage> findAll(
+            int page,
+            int size,
+            BootcampSortField sortField,
+            SortDirection sortDirection,
+            boolean withCount
+    );
 }
 
@@ -1,6 +1,7 @@
 package co.com.pragma.model.bootcamp.gateway;
 
 import co.com.pragma.model.bootcamp.Bootcamp;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -10,5 +11,12 @@ public interface BootcampRepository {
     Mono<Bootcamp> save(Bootcamp bootcamp);
 
     Mono<Bootcamp> findById(Long id);
+
+    /**
+     * Obtiene varios bootcamps, con los IDs de sus capacidades, en una sola consulta
+     * @param ids IDs de los bootcamps; los que no existen se omiten
+     * @return Flux de bootcamps encontrados
+     */
+    Flux<Bootcamp> findAllByIds(List<Long> ids);
 }
 
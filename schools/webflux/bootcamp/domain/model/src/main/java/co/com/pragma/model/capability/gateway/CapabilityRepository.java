@@ -4,9 +4,12 @@ import co.com.pragma.model.capability.CapabilityIds;
 import co.com.pragma.model.capability.CapabilityListResult;
 import co.com.pragma.model.capability.CapabilityValidationResult;
 import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyUsageCount;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface CapabilityRepository {
 
     Mono<CapabilityValidationResult> findAllByIds(CapabilityIds ids);
@@ -27,6 +30,13 @@ public interface CapabilityRepository {
      */
     Mono<Long> getTechnologyUsageCount(Long technologyId);
 
+    /**
+     * Obtiene en una sola llamada el conteo de uso de varias tecnologías
+     * @param technologyIds IDs de las tecnologías
+     * @return Flux con el conteo de uso de cada tecnología
+     */
+    Flux<TechnologyUsageCount> getTechnologyUsageCounts(List<Long> technologyIds);
+
     /**
      * Elimina una capacidad en la API externa
      * @param capabilityId ID de la capacidad a eliminar
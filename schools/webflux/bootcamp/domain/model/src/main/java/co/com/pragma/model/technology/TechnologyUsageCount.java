@@ -0,0 +1,17 @@
+package co.com.pragma.model.technology;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TechnologyUsageCount {
+
+    private Long technologyId;
+
+    private Long usageCount;
+}
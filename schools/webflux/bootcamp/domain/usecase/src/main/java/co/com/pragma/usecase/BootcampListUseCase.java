@@ -9,6 +9,7 @@ import co.com.pragma.model.capability.CapabilityListResult;
 import co.com.pragma.model.capability.gateway.CapabilityRepository;
 import co.com.pragma.model.enums.BootcampSortField;
 import co.com.pragma.model.enums.SortDirection;
+import co.com.pragma.usecase.utils.IdIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import reactor.core.publisher.Mono;
@@ -28,13 +29,24 @@ public class BootcampListUseCase {
             BootcampSortField sortField,
             SortDirection sortDirection,
             String traceId
+    ) {
+        return execute(page, size, sortField, sortDirection, true, traceId);
+    }
+
+    public Mono<BootcampPage> execute(
+            int page,
+            int size,
+            BootcampSortField sortField,
+            SortDirection sortDirection,
+            boolean withCount,
+            String traceId
     ) {
         log.info(() -> String.format(
-                "Listing bootcamps - page=%d, size=%d, sortField=%s, sortDirection=%s, traceId=%s",
-                page, size, sortField, sortDirection, traceId
+                "Listing bootcamps - page=%d, size=%d, sortField=%s, sortDirection=%s, withCount=%s, traceId=%s",
+                page, size, sortField, sortDirection, withCount, traceId
         ));
 
-        return repository.findAll(page, size, sortField, sortDirection)
+        return repository.findAll(page, size, sortField, sortDirection, withCount)
                 .flatMap(data -> enrichWithCapabilities(data, traceId))
                 .doOnSuccess(result ->
                                      log.info(() -> String.format(
@@ -86,14 +98,16 @@ public class BootcampListUseCase {
             List<CapabilityListResult> allCapabilityListResults
     ) {
 
+        IdIndex<CapabilityListResult> capabilitiesById =
+                IdIndex.of(allCapabilityListResults, CapabilityListResult::getId);
+
         return pageData.withItems(
                 pageData.getContent()
                         .stream()
                         .map(cap -> cap.toBuilder()
                                 .capabilities(
-                                        allCapabilityListResults.stream()
-                                                .filter(t -> cap.getIdCapabilities()
-                                                        .contains(t.getId()))
+                                        capabilitiesById.getAll(cap.getIdCapabilities())
+                                                .stream()
                                                 .map(this::mapCapabilitiesToBootcamps)
                                                 .toList()
                                 )
@@ -2,10 +2,12 @@ package co.com.pragma.usecase;
 
 import co.com.pragma.model.bootcamp.gateway.BootcampDeleteRepository;
 import co.com.pragma.model.capability.gateway.CapabilityRepository;
+import co.com.pragma.model.technology.TechnologyUsageCount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.logging.Level;
 
 @RequiredArgsConstructor
@@ -61,7 +63,9 @@ public class DeleteBootcampUseCase {
         );
 
         return capabilityRepository.getTechnologiesByCapabilityId(capabilityId)
-                .flatMap(technology -> processTechnology(technology.getId(), traceId))
+                .map(technology -> technology.getId())
+                .collectList()
+                .flatMap(technologyIds -> deleteUnsharedTechnologies(technologyIds, traceId))
                 .then(capabilityRepository.deleteCapability(capabilityId))
                 .doOnSuccess(v -> logShowMessage(
                         "Capability and its technologies processed, capabilityId={0}, traceId={1}",
@@ -69,31 +73,28 @@ public class DeleteBootcampUseCase {
                 ));
     }
 
-    private Mono<Void> processTechnology(Long technologyId, String traceId) {
+    private Mono<Void> deleteUnsharedTechnologies(List<Long> technologyIds, String traceId) {
 
-        logShowMessage("Processing technology, technologyId={0}, traceId={1}", technologyId, traceId);
+        if (technologyIds.isEmpty()) {
+            return Mono.empty();
+        }
 
-        return capabilityRepository.getTechnologyUsageCount(technologyId)
-                .filter(count -> count == 1)
-                .flatMap(count -> {
+        logShowMessage(
+                "Requesting usage counts for technologies, technologyIdsCount={0}, traceId={1}",
+                technologyIds.size(), traceId
+        );
+
+        return capabilityRepository.getTechnologyUsageCounts(technologyIds)
+                .filter(usage -> usage.getUsageCount() != null && usage.getUsageCount() == 1)
+                .map(TechnologyUsageCount::getTechnologyId)
+                .flatMap(technologyId -> {
                     logShowMessage(
                             "Technology is only used by one capability, deleting, technologyId={0}, traceId={1}",
                             technologyId, traceId
                     );
                     return capabilityRepository.deleteTechnology(technologyId);
                 })
-                .doOnSuccess(v -> logShowMessage(
-                        "Technology processed, technologyId={0}, traceId={1}",
-                        technologyId,
-                        traceId
-                ))
-                .switchIfEmpty(Mono.defer(() -> {
-                    logShowMessage(
-                            "Technology is used by other capabilities, skipping deletion, technologyId={0}, traceId={1}",
-                            technologyId, traceId
-                    );
-                    return Mono.empty();
-                }));
+                .then();
     }
 
     private Mono<Void> deleteBootcampRelationships(Long bootcampId, String traceId) {
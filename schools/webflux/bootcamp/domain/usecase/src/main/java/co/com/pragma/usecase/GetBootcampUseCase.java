@@ -4,8 +4,10 @@ import co.com.pragma.model.bootcamp.Bootcamp;
 import co.com.pragma.model.bootcamp.gateway.BootcampRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.logging.Level;
 
 @RequiredArgsConstructor
@@ -26,4 +28,14 @@ public class GetBootcampUseCase {
                     "Error getting bootcamp, bootcampId={0}, traceId={1}, error={2}", 
                     new Object[]{bootcampId, traceId, error.getMessage()}));
     }
+
+    public Flux<Bootcamp> executeAll(List<Long> bootcampIds, String traceId) {
+        log.log(Level.INFO, "Getting bootcamps by ids, count={0}, traceId={1}",
+            new Object[]{bootcampIds.size(), traceId});
+
+        return bootcampRepository.findAllByIds(bootcampIds)
+                .doOnError(error -> log.log(Level.SEVERE,
+                    "Error getting bootcamps by ids, traceId={0}, error={1}",
+                    new Object[]{traceId, error.getMessage()}));
+    }
 }
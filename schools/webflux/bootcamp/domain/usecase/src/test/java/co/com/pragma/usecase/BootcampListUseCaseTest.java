@@ -54,7 +54,7 @@ class BootcampListUseCaseTest {
                 .name("Backend Capability")
                 .build();
 
-        when(repository.findAll(anyInt(), anyInt(), any(), any())).thenReturn(Mono.just(page));
+        when(repository.findAll(anyInt(), anyInt(), any(), any(), anyBoolean())).thenReturn(Mono.just(page));
         when(capabilityRepository.findAllTechnologiesByIds(any())).thenReturn(Flux.just(capResult));
 
         // Act & Assert
@@ -77,7 +77,7 @@ class BootcampListUseCaseTest {
                 .build();
         BootcampPage page = new BootcampPage(List.of(bootcamp), 1L, 1, 1);
 
-        when(repository.findAll(anyInt(), anyInt(), any(), any())).thenReturn(Mono.just(page));
+        when(repository.findAll(anyInt(), anyInt(), any(), any(), anyBoolean())).thenReturn(Mono.just(page));
         // Simulamos error en el repositorio de capacidades
         when(capabilityRepository.findAllTechnologiesByIds(any())).thenReturn(Flux.error(new RuntimeException("Service Down")));
 
@@ -96,7 +96,7 @@ class BootcampListUseCaseTest {
     void executeEmpty() {
         // Arrange
         BootcampPage emptyPage = new BootcampPage(List.of(), 0L, 10, 0);
-        when(repository.findAll(anyInt(), anyInt(), any(), any())).thenReturn(Mono.just(emptyPage));
+        when(repository.findAll(anyInt(), anyInt(), any(), any(), anyBoolean())).thenReturn(Mono.just(emptyPage));
 
         // Act & Assert
         StepVerifier.create(bootcampListUseCase.execute(0, 10, BootcampSortField.NAME, SortDirection.ASC, "trace"))
@@ -108,4 +108,21 @@ class BootcampListUseCaseTest {
         // Verificar que no se llamó a capacidades si la lista de bootcamps estaba vacía
         verify(capabilityRepository, never()).findAllTechnologiesByIds(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should skip total count when count is not requested")
+    void executeWithoutCount() {
+        // Arrange
+        BootcampPage pageWithoutCount = new BootcampPage(List.of(), null);
+        when(repository.findAll(0, 10, BootcampSortField.NAME, SortDirection.ASC, false))
+                .thenReturn(Mono.just(pageWithoutCount));
+
+        // Act & Assert
+        StepVerifier.create(bootcampListUseCase.execute(0, 10, BootcampSortField.NAME, SortDirection.ASC, false, "trace"))
+                .assertNext(result -> {
+                    assert result.getContent().isEmpty();
+                    assert result.getTotalElements() == null;
+                })
+                .verifyComplete();
+    }
+}
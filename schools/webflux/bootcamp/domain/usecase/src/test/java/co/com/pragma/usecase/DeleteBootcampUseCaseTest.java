@@ -3,6 +3,7 @@ package co.com.pragma.usecase;
 import co.com.pragma.model.bootcamp.gateway.BootcampDeleteRepository;
 import co.com.pragma.model.capability.gateway.CapabilityRepository;
 import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyUsageCount;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +14,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -52,8 +55,8 @@ class DeleteBootcampUseCaseTest {
                 .thenReturn(Flux.just(tech));
 
         // 4. ¿La tecnología es usada por otros? Solo por esta (count == 1)
-        when(capabilityRepository.getTechnologyUsageCount(technologyId))
-                .thenReturn(Mono.just(1L));
+        when(capabilityRepository.getTechnologyUsageCounts(List.of(technologyId)))
+                .thenReturn(Flux.just(new TechnologyUsageCount(technologyId, 1L)));
 
         // 5. Mocks de las eliminaciones físicas
         when(capabilityRepository.deleteTechnology(technologyId)).thenReturn(Mono.empty());
@@ -108,7 +111,8 @@ class DeleteBootcampUseCaseTest {
         when(capabilityRepository.getTechnologiesByCapabilityId(capabilityId)).thenReturn(Flux.just(tech));
 
         // La tecnología es usada por 2 capacidades (contando esta), así que no debe borrarse
-        when(capabilityRepository.getTechnologyUsageCount(techId)).thenReturn(Mono.just(2L));
+        when(capabilityRepository.getTechnologyUsageCounts(List.of(techId)))
+                .thenReturn(Flux.just(new TechnologyUsageCount(techId, 2L)));
 
         when(capabilityRepository.deleteCapability(capabilityId)).thenReturn(Mono.empty());
         when(bootcampDeleteRepository.deleteById(bootcampId)).thenReturn(Mono.empty());
@@ -8,9 +8,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,4 +76,22 @@ class GetBootcampUseCaseTest {
                 .expectError(RuntimeException.class)
                 .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return every bootcamp found for the given ids")
+    void executeAllSuccess() {
+        // Arrange
+        List<Long> bootcampIds = List.of(1L, 2L, 3L);
+        when(bootcampRepository.findAllByIds(bootcampIds)).thenReturn(Flux.just(
+                Bootcamp.builder().id(1L).name("Java Cloud").build(),
+                Bootcamp.builder().id(3L).name("Data Engineering").build()));
+
+        // Act & Assert
+        StepVerifier.create(getBootcampUseCase.executeAll(bootcampIds, traceId))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(bootcampRepository, times(1)).findAllByIds(bootcampIds);
+        verify(bootcampRepository, never()).findById(anyLong());
+    }
+}
@@ -0,0 +1,68 @@
+package co.com.pragma.usecase.utils;
+
+import co.com.pragma.model.capability.CapabilityListResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("IdIndex Tests")
+class IdIndexTest {
+
+    @Test
+    @DisplayName("Should resolve ids in request order skipping unknown and null ids")
+    void shouldResolveIdsInRequestOrder() {
+        // Arrange
+        CapabilityListResult backend = CapabilityListResult.builder().id(1L).name("Backend").build();
+        CapabilityListResult frontend = CapabilityListResult.builder().id(2L).name("Frontend").build();
+        IdIndex<CapabilityListResult> index = IdIndex.of(List.of(backend, frontend), CapabilityListResult::getId);
+
+        // Act
+        List<CapabilityListResult> result = index.getAll(Arrays.asList(2L, 99L, null, 1L));
+
+        // Assert
+        assertEquals(List.of(frontend, backend), result);
+        assertNull(index.get(99L));
+    }
+
+    @Test
+    @DisplayName("Should keep the first item when ids are repeated and skip null items and ids")
+    void shouldKeepFirstItemWhenIdsAreRepeated() {
+        // Arrange
+        CapabilityListResult first = CapabilityListResult.builder().id(1L).name("First").build();
+        CapabilityListResult second = CapabilityListResult.builder().id(1L).name("Second").build();
+        CapabilityListResult withoutId = CapabilityListResult.builder().name("Without id").build();
+
+        // Act
+        IdIndex<CapabilityListResult> index = IdIndex.of(
+                Arrays.asList(first, null, withoutId, second), CapabilityListResult::getId);
+
+        // Assert
+        assertEquals("First", index.get(1L).getName());
+        assertEquals(List.of(first), index.getAll(List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("Should resolve every id when the index holds many colliding keys")
+    void shouldResolveManyKeys() {
+        // Arrange
+        List<CapabilityListResult> capabilities = LongStream.range(0, 5_000)
+                .map(i -> i * 1024)
+                .mapToObj(id -> CapabilityListResult.builder().id(id).name("C" + id).build())
+                .toList();
+
+        // Act
+        IdIndex<CapabilityListResult> index = IdIndex.of(capabilities, CapabilityListResult::getId);
+
+        // Assert
+        assertTrue(capabilities.stream().allMatch(c -> index.get(c.getId()) == c));
+        assertTrue(index.getAll(null).isEmpty());
+        assertTrue(index.getAll(List.of()).isEmpty());
+    }
+}
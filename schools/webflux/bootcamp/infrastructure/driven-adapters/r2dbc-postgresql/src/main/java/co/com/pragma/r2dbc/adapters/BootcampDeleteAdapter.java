@@ -3,6 +3,7 @@ package co.com.pragma.r2dbc.adapters;
 import co.com.pragma.model.bootcamp.gateway.BootcampDeleteRepository;
 import co.com.pragma.r2dbc.providers.BootcampSQLProvider;
 import co.com.pragma.r2dbc.repositories.BootcampR2dbcRepository;
+import co.com.pragma.r2dbc.utils.TableCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -19,6 +20,7 @@ public class BootcampDeleteAdapter implements BootcampDeleteRepository {
     private final BootcampR2dbcRepository repository;
     private final DatabaseClient databaseClient;
     private final BootcampSQLProvider sqlProvider;
+    private final TableCounter bootcampCounter;
 
     @Override
     @Transactional
@@ -26,7 +28,8 @@ public class BootcampDeleteAdapter implements BootcampDeleteRepository {
         // Solo eliminar las relaciones bootcamp-capability y el bootcamp
         // Las capacidades y tecnologías se eliminan en el UseCase a través de APIs externas
         return deleteBootcampRelationships(bootcampId)
-                .then(deleteBootcamp(bootcampId));
+                .then(deleteBootcamp(bootcampId))
+                .doOnSuccess(v -> bootcampCounter.invalidate());
     }
 
     private Mono<Long> countBootcampsByCapabilityId(Long capabilityId, Long bootcampId) {
@@ -6,15 +6,14 @@ import co.com.pragma.model.bootcamp.gateway.BootcampListRepository;
 import co.com.pragma.model.enums.BootcampSortField;
 import co.com.pragma.model.enums.SortDirection;
 import co.com.pragma.r2dbc.dto.BootcampListEntity;
-import co.com.pragma.r2dbc.repositories.BootcampR2dbcRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import co.com.pragma.r2dbc.utils.TableCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
 import java.util.List;
 
 @Repository
@@ -23,24 +22,30 @@ import java.util.List;
 public class BootcampListR2DbcAdapter implements BootcampListRepository {
 
     private final DatabaseClient databaseClient;
-    private final BootcampR2dbcRepository bootcampReactiveRepository;
-    private final ObjectMapper mapper;
+    private final TableCounter bootcampCounter;
 
     @Override
-    public Mono<BootcampPage> findAll(int page, int size, BootcampSortField sortField, SortDirection sortDirection) {
+    public Mono<BootcampPage> findAll(
+            int page,
+            int size,
+            BootcampSortField sortField,
+            SortDirection sortDirection,
+            boolean withCount
+    ) {
         log.debug(
-                "Finding all capabilities with pagination, page={}, size={}, sort={}, dir={}",
+                "Finding all capabilities with pagination, page={}, size={}, sort={}, dir={}, withCount={}",
                 page,
                 size,
                 sortField,
-                sortDirection
+                sortDirection,
+                withCount
         );
 
         String query = """
                 SELECT b.id,
                        b.name,
                        b.description,
-                       (SELECT JSON_AGG(bc2.capability_id)
+                       (SELECT ARRAY_AGG(bc2.capability_id)
                         FROM bootcamp_capability bc2
                         WHERE b.id = bc2.bootcamp_id) AS idCapabilities
                 FROM bootcamp b
@@ -66,15 +71,17 @@ public class BootcampListR2DbcAdapter implements BootcampListRepository {
                         row.get("id", Long.class),
                         row.get("name", String.class),
                         row.get("description", String.class),
-                        row.get("idcapabilities", String.class)
+                        row.get("idcapabilities", Long[].class)
                 ))
                 .all()
                 .map(this::toDomain) // Convierte Entity a Dominio (con lista de IDs)
                 .collectList()
                 .doOnNext(capabilities -> log.debug("Retrieved {} bootcamps from database", capabilities.size()))
-                .zipWith(bootcampReactiveRepository.countAll())
-                .doOnNext(tuple -> log.debug("Total bootcamps count: {}", tuple.getT2()))
-                .map(t -> new BootcampPage(t.getT1(), t.getT2()))
+                .flatMap(bootcamps -> withCount
+                        ? bootcampCounter.count()
+                                .doOnNext(count -> log.debug("Total bootcamps count: {}", count))
+                                .map(count -> new BootcampPage(bootcamps, count))
+                        : Mono.just(new BootcampPage(bootcamps, null)))
                 .doOnSuccess(pageData -> log.info(
                         "Successfully retrieved bootcamps page, itemsCount={}, totalElements={}",
                         pageData.getContent()
@@ -87,32 +94,15 @@ public class BootcampListR2DbcAdapter implements BootcampListRepository {
     }
 
     private BootcampList toDomain(BootcampListEntity entity) {
-        try {
+        List<Long> ids = entity.getIdCapabilities() == null
+                ? List.of()
+                : Arrays.asList(entity.getIdCapabilities());
 
-            List<Long> ids = (entity.getIdCapabilities() == null) ? List.of() :
-                    mapper.readValue(
-                            entity.getIdCapabilities(), new TypeReference<List<Long>>() {
-                            }
-                    );
-
-            return BootcampList.builder()
-                    .id(entity.getId())
-                    .name(entity.getName())
-                    .description(entity.getDescription())
-                    .idCapabilities(ids)
-                    .build();
-
-        } catch (Exception e) {
-            log.error(
-                    "Error parsing technology IDs JSON for capability, capabilityId={}, error={}",
-                    entity.getId(), e.getMessage()
-            );
-            return BootcampList.builder()
-                    .id(entity.getId())
-                    .name(entity.getName())
-                    .description(entity.getDescription())
-                    .build();
-        }
+        return BootcampList.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .description(entity.getDescription())
+                .idCapabilities(ids)
+                .build();
     }
 }
-
@@ -8,6 +8,7 @@ import co.com.pragma.r2dbc.entity.BootcampEntity;
 import co.com.pragma.r2dbc.mappers.BootcampEntityMapper;
 import co.com.pragma.r2dbc.providers.BootcampSQLProvider;
 import co.com.pragma.r2dbc.repositories.BootcampR2dbcRepository;
+import co.com.pragma.r2dbc.utils.TableCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -16,7 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 @Repository
 @Slf4j
@@ -27,6 +30,7 @@ public class BootcampR2dbcAdapter implements BootcampRepository {
     private final DatabaseClient databaseClient;
     private final BootcampEntityMapper bootcampEntityMapper;
     private final BootcampSQLProvider bootcampSQLProvider;
+    private final TableCounter bootcampCounter;
 
     @Override
     @Transactional
@@ -37,28 +41,15 @@ public class BootcampR2dbcAdapter implements BootcampRepository {
         // Convertir dominio a entidad usando mapper
         BootcampEntity entity = bootcampEntityMapper.toEntity(bootcamp);
 
-        // Guardar bootcamp
-        return bootcampR2dbcRepository.save(entity)
-                .flatMap(savedEntity -> {
-                    // Guardar relaciones con capacidades
-                    List<Mono<Void>> relationshipSaves = bootcamp.getCapabilities().stream()
-                            .map(capability -> saveBootcampCapabilityRelationship(
-                                    savedEntity.getId(),
-                                    capability.getId()
-                            ))
-                            .toList();
-
-                    return Flux.concat(relationshipSaves)
-                            .then(Mono.just(savedEntity));
-                })
-                .map(savedEntity -> {
-
-                    List<Long> capabilityIds = bootcamp.getCapabilities().stream()
-                            .map(Capability::getId)
-                            .toList();
+        List<Long> capabilityIds = bootcamp.getCapabilities().stream()
+                .map(Capability::getId)
+                .toList();
 
-                    return bootcampEntityMapper.toDomain(savedEntity, capabilityIds);
-                })
+        // Guardar bootcamp y luego todas sus relaciones con capacidades en una sola sentencia
+        return bootcampR2dbcRepository.save(entity)
+                .flatMap(savedEntity -> saveBootcampCapabilityRelationships(savedEntity.getId(), capabilityIds)
+                        .map(storedCapabilityIds -> bootcampEntityMapper.toDomain(savedEntity, storedCapabilityIds)))
+                .doOnSuccess(saved -> bootcampCounter.invalidate())
                 .doOnSuccess(saved -> log.info("Bootcamp saved successfully with id: {}", saved.getId()))
                 .doOnError(error -> log.error("Error saving bootcamp", error));
     }
@@ -79,6 +70,33 @@ public class BootcampR2dbcAdapter implements BootcampRepository {
                 .switchIfEmpty(Mono.error(new BusinessException("Bootcamp no encontrado con id: " + id)));
     }
 
+    @Override
+    public Flux<Bootcamp> findAllByIds(List<Long> ids) {
+        Long[] distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray(Long[]::new);
+        log.info("Finding bootcamps by ids, count: {}", distinctIds.length);
+
+        return databaseClient.sql(bootcampSQLProvider.findBootcampsByIds())
+                .bind("ids", distinctIds)
+                .map((row, metadata) -> {
+                    BootcampEntity entity = BootcampEntity.builder()
+                            .id(row.get("id", Long.class))
+                            .name(row.get("name", String.class))
+                            .description(row.get("description", String.class))
+                            .launchDate(row.get("launch_date", String.class))
+                            .durationMonths(row.get("duration_months", Integer.class))
+                            .build();
+                    Long[] capabilityIds = row.get("capability_ids", Long[].class);
+
+                    return bootcampEntityMapper.toDomain(
+                            entity, capabilityIds != null ? Arrays.asList(capabilityIds) : List.of());
+                })
+                .all()
+                .doOnError(error -> log.error("Error finding bootcamps by ids, count: {}", distinctIds.length, error));
+    }
+
     private Flux<Long> getCapabilityIdsByBootcampId(Long bootcampId) {
         String sql = bootcampSQLProvider.findCapabilityIdsByBootcampId();
         return databaseClient.sql(sql)
@@ -87,18 +105,28 @@ public class BootcampR2dbcAdapter implements BootcampRepository {
                 .all();
     }
 
-    private Mono<Void> saveBootcampCapabilityRelationship(Long bootcampId, Long capabilityId) {
-        String sql = bootcampSQLProvider.insertBootcampCapabilityRelationship();
+    /**
+     * Inserta todas las relaciones en un único round trip y retorna los IDs de capacidades almacenados,
+     * en el orden de la solicitud
+     */
+    private Mono<List<Long>> saveBootcampCapabilityRelationships(Long bootcampId, List<Long> capabilityIds) {
+        if (capabilityIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        String sql = bootcampSQLProvider.insertBootcampCapabilityRelationships();
 
         return databaseClient.sql(sql)
                 .bind("bootcamp_id", bootcampId)
-                .bind("capability_id", capabilityId)
-                .fetch()
-                .rowsUpdated()
-                .then()
+                .bind("capability_ids", capabilityIds.toArray(Long[]::new))
+                .map((row, metadata) -> row.get("capability_id", Long.class))
+                .all()
+                .collectList()
+                .map(storedIds -> capabilityIds.stream()
+                        .filter(storedIds::contains)
+                        .toList())
                 .doOnError(error -> log.error(
-                        "Error saving bootcamp-capability relationship: bootcampId={}, capabilityId={}",
-                        bootcampId, capabilityId, error
+                        "Error saving bootcamp-capability relationships: bootcampId={}, capabilityIds={}",
+                        bootcampId, capabilityIds, error
                 ));
     }
 }
@@ -0,0 +1,28 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.repositories.BootcampR2dbcRepository;
+import co.com.pragma.r2dbc.utils.CountStrategy;
+import co.com.pragma.r2dbc.utils.TableCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+@Configuration
+public class ListCountConfig {
+
+    /**
+     * Total de bootcamps para el listado paginado de bootcamps
+     */
+    @Bean
+    public TableCounter bootcampCounter(
+            DatabaseClient client,
+            BootcampR2dbcRepository repository,
+            @Value("${adapter.r2dbc.count.bootcamps.strategy:EXACT}") CountStrategy strategy,
+            @Value("${adapter.r2dbc.count.bootcamps.ttl:30s}") Duration ttl
+    ) {
+        return new TableCounter(client, "bootcamp", strategy, ttl, repository::countAll);
+    }
+}
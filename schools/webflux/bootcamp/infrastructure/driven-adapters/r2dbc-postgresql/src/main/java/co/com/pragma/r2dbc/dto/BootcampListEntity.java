@@ -27,7 +27,7 @@ public class BootcampListEntity {
     private String description;
 
     @Transient
-    private String idCapabilities;
+    private Long[] idCapabilities;
 }
 
 
@@ -6,13 +6,16 @@ import org.springframework.stereotype.Component;
 public class BootcampSQLProvider {
 
     /**
-     * Query SQL para insertar relación bootcamp-capability
+     * Query SQL para insertar en una sola sentencia las relaciones bootcamp-capability a partir de un
+     * parámetro bigint[]; retorna los IDs de capacidades almacenados
      * @return SQL INSERT statement
      */
-    public String insertBootcampCapabilityRelationship() {
+    public String insertBootcampCapabilityRelationships() {
         return """
                 INSERT INTO bootcamp_capability (bootcamp_id, capability_id)
-                VALUES (:bootcamp_id, :capability_id)
+                SELECT :bootcamp_id, c.capability_id
+                FROM UNNEST(:capability_ids) AS c(capability_id)
+                RETURNING capability_id
                 """;
     }
 
@@ -40,6 +43,26 @@ public class BootcampSQLProvider {
                 """;
     }
 
+    /**
+     * Query SQL para obtener varios bootcamps por IDs con un único parámetro bigint[], junto con los IDs
+     * de sus capacidades
+     * @return SQL SELECT statement
+     */
+    public String findBootcampsByIds() {
+        return """
+                SELECT b.id,
+                       b.name,
+                       b.description,
+                       b.launch_date::text AS launch_date,
+                       b.duration_months,
+                       (SELECT ARRAY_AGG(bc.capability_id)
+                        FROM bootcamp_capability bc
+                        WHERE bc.bootcamp_id = b.id) AS capability_ids
+                FROM bootcamp b
+                WHERE b.id = ANY(:ids)
+                """;
+    }
+
     /**
      * Query SQL para obtener IDs de capacidades de un bootcamp
      * @return SQL SELECT statement
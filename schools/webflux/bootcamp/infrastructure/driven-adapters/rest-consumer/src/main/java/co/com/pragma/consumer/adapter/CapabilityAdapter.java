@@ -3,6 +3,7 @@ package co.com.pragma.consumer.adapter;
 import co.com.pragma.consumer.dto.CapabilityApiResponse;
 import co.com.pragma.consumer.dto.TechnologyApiResponse;
 import co.com.pragma.consumer.dto.TechnologyUsageCountResponse;
+import co.com.pragma.consumer.dto.TechnologyUsageCountsResponse;
 import co.com.pragma.consumer.dto.response.ApiResponse;
 import co.com.pragma.consumer.util.ObjectMapperSingletonUtil;
 import co.com.pragma.model.capability.CapabilityIds;
@@ -11,6 +12,7 @@ import co.com.pragma.model.capability.CapabilityValidationResult;
 import co.com.pragma.model.capability.gateway.CapabilityRepository;
 import co.com.pragma.model.exceptions.BusinessException;
 import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyUsageCount;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
@@ -19,6 +21,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+
 @Component
 @Slf4j
 public class CapabilityAdapter implements CapabilityRepository {
@@ -59,7 +64,9 @@ public class CapabilityAdapter implements CapabilityRepository {
     private CapabilityValidationResult builderToDomain(CapabilityApiResponse response) {
         return CapabilityValidationResult.builder()
                 .isValidate(response.getIsExisting())
-                .message(response.getMessage())
+                .message(response.getMissingIds() != null && !response.getMissingIds().isEmpty()
+                                 ? response.getMissingIds().toString()
+                                 : response.getMessage())
                 .build();
     }
 
@@ -180,6 +187,28 @@ public class CapabilityAdapter implements CapabilityRepository {
         });
     }
 
+    @Override
+    public Flux<TechnologyUsageCount> getTechnologyUsageCounts(List<Long> technologyIds) {
+        log.info("Requesting technology usage counts from external service, technologyIdsCount={}", technologyIds.size());
+
+        return Flux.deferContextual(ctx -> {
+            String token = ctx.getOrDefault("token", "");
+            String traceId = ctx.getOrDefault("traceId", "");
+
+            log.debug("Calling external service, endpoint=/api/v1/technologies/usage-counts, traceId={}", traceId);
+
+            return webClient.post()
+                    .uri("/api/v1/technologies/usage-counts")
+                    .header("Authorization", token)
+                    .header("X-B3-TraceId", traceId)
+                    .bodyValue(Map.of("technologyIds", technologyIds))
+                    .exchangeToFlux(this::handleUsageCountsResponse)
+                    .doOnError(error ->
+                        log.error("Error retrieving technology usage counts, technologyIdsCount={}, traceId={}",
+                            technologyIds.size(), traceId, error));
+        });
+    }
+
     @Override
     public Mono<Void> deleteCapability(Long capabilityId) {
         log.info("Deleting capability from external service, capabilityId={}", capabilityId);
@@ -273,6 +302,30 @@ public class CapabilityAdapter implements CapabilityRepository {
                 .map(response -> response.getCount() != null ? response.getCount() : 0L);
     }
 
+    private Flux<TechnologyUsageCount> handleUsageCountsResponse(ClientResponse clientResponse) {
+        if (clientResponse.statusCode().isError()) {
+            return clientResponse.bodyToMono(ApiResponse.class)
+                    .flatMapMany(body -> {
+                        log.error(
+                                "WebClient error: status={}, headers={}, body={}",
+                                clientResponse.statusCode(),
+                                clientResponse.headers().asHttpHeaders(),
+                                body
+                        );
+                        return Mono.error(
+                                new BusinessException(body.getMessage(), body)
+                        );
+                    });
+        }
+
+        return clientResponse.bodyToMono(TechnologyUsageCountsResponse.class)
+                .flatMapIterable(response -> response.getData() != null ? response.getData() : List.of())
+                .map(usage -> TechnologyUsageCount.builder()
+                        .technologyId(usage.getTechnologyId())
+                        .usageCount(usage.getUsageCount() != null ? usage.getUsageCount() : 0L)
+                        .build());
+    }
+
     private Mono<Void> handleDeleteResponse(ClientResponse clientResponse) {
         if (clientResponse.statusCode().isError()) {
             return clientResponse.bodyToMono(ApiResponse.class)
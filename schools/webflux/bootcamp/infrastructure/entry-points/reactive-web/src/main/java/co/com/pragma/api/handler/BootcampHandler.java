@@ -1,9 +1,11 @@
 package co.com.pragma.api.handler;
 
 import co.com.pragma.api.util.EntryPointsUtil;
+import co.com.pragma.model.exceptions.ValidationException;
 import co.com.pragma.usecase.CreateBootcampUseCase;
 import co.com.pragma.usecase.DeleteBootcampUseCase;
 import co.com.pragma.usecase.GetBootcampUseCase;
+import co.com.pragma.validator.dto.request.BootcampIdsRequestDto;
 import co.com.pragma.validator.dto.request.BootcampRequestDto;
 import co.com.pragma.validator.engine.ValidatorEngine;
 import co.com.pragma.validator.mappers.BootcampMapper;
@@ -129,6 +131,29 @@ public class BootcampHandler {
                 });
     }
 
+    public Mono<ServerResponse> getBootcampsByIds(ServerRequest request) {
+        String traceId = EntryPointsUtil.extractTraceId(request);
+
+        log.info("Received request to get bootcamps by ids, traceId: {}", traceId);
+
+        return request.bodyToMono(BootcampIdsRequestDto.class)
+                .doOnNext(ValidatorEngine::validate)
+                .flatMapMany(dto -> getBootcampUseCase.executeAll(dto.getBootcampIds(), traceId))
+                .map(bootcampMapper::toResponseDto)
+                .collectList()
+                .flatMap(responseDtos -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-B3-TraceId", traceId)
+                        .bodyValue(buildSuccessResponse(responseDtos, traceId)))
+                .onErrorResume(error -> !(error instanceof ValidationException), error -> {
+                    log.error("Error getting bootcamps by ids, traceId: {}", traceId, error);
+                    return ServerResponse.status(500)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header("X-B3-TraceId", traceId)
+                            .bodyValue(buildErrorResponse(error.getMessage(), traceId));
+                });
+    }
+
 }
 
 
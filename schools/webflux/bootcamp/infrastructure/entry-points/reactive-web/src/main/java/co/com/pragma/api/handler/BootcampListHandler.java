@@ -41,6 +41,7 @@ public class BootcampListHandler {
                 .size(getQueryParamAsInt(request, "size", 10))
                 .sortField(request.queryParam("sortField").orElse("capacidades"))
                 .sortDirection(request.queryParam("sortDirection").orElse("ASC"))
+                .count(!"false".equalsIgnoreCase(request.queryParam("count").orElse("true")))
                 .build();
 
         return Mono.fromCallable(() -> {
@@ -56,6 +57,7 @@ public class BootcampListHandler {
                             dto.getSize(),
                             sortFieldEnum,
                             sortDirectionEnum,
+                            dto.getCount(),
                             traceId
                     );
                 })
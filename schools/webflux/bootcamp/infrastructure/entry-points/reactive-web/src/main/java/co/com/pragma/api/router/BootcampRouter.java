@@ -2,12 +2,14 @@ package co.com.pragma.api.router;
 
 import co.com.pragma.api.handler.BootcampHandler;
 import co.com.pragma.api.handler.BootcampListHandler;
+import co.com.pragma.validator.dto.request.BootcampIdsRequestDto;
 import co.com.pragma.validator.dto.request.BootcampRequestDto;
 import co.com.pragma.validator.dto.response.BootcampPageResponseDto;
 import co.com.pragma.validator.dto.response.BootcampResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -77,10 +79,57 @@ public class BootcampRouter {
                                     )
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/bootcamps/items",
+                    operation = @Operation(
+                            operationId = "getBootcampsByIds",
+                            summary = "Obtener bootcamps por IDs",
+                            description = "Obtiene en una sola consulta los bootcamps indicados, con los IDs de sus capacidades. Los IDs que no existen se omiten.",
+                            tags = {"Bootcamps"},
+                            requestBody = @RequestBody(
+                                    description = "IDs de los bootcamps a consultar (máximo 1000)",
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            schema = @Schema(implementation = BootcampIdsRequestDto.class)
+                                    )
+                            ),
+                            parameters = {
+                                    @Parameter(
+                                            name = "X-B3-TraceId",
+                                            description = "ID de trazabilidad para el request (opcional)",
+                                            in = ParameterIn.HEADER,
+                                            required = false,
+                                            schema = @Schema(type = "string", example = "550e8400-e29b-41d4-a716-446655440000")
+                                    )
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Bootcamps encontrados",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    array = @ArraySchema(schema = @Schema(implementation = BootcampResponseDto.class))
+                                            )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Error de validación en los IDs",
+                                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "500",
+                                            description = "Error interno del servidor",
+                                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+                                    )
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> bootcampRoutes(BootcampHandler handler) {
-        return route(POST("/api/v1/bootcamps"), handler::createBootcamp);
+        return route(POST("/api/v1/bootcamps"), handler::createBootcamp)
+                .andRoute(POST("/api/v1/bootcamps/items"), handler::getBootcampsByIds);
     }
 
     @Bean
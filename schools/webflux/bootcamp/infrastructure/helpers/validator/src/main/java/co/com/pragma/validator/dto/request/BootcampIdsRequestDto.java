@@ -0,0 +1,28 @@
+package co.com.pragma.validator.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para consultar varios bootcamps por ID")
+public class BootcampIdsRequestDto {
+
+    @ArraySchema(schema = @Schema(description = "ID del bootcamp", example = "1"))
+    @NotEmpty(message = "Debe indicar al menos un ID de bootcamp")
+    @Size(max = 1000, message = "No se pueden consultar más de 1000 bootcamps por solicitud")
+    private List<@NotNull(message = "El ID del bootcamp no puede ser nulo") Long> bootcampIds;
+}
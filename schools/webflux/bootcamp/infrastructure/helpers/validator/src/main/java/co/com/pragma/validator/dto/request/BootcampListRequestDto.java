@@ -31,5 +31,8 @@ public class BootcampListRequestDto {
 
     @Schema(description = "Dirección del ordenamiento", example = "ASC", allowableValues = {"ASC", "DESC"}, defaultValue = "ASC")
     private String sortDirection = "ASC"; // ASC o DESC
+
+    @Schema(description = "Indica si se calcula el total de elementos", example = "true", defaultValue = "true")
+    private Boolean count = true;
 }
 
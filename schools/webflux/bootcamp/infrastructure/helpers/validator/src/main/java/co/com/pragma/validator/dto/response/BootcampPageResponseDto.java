@@ -26,8 +26,8 @@ public class BootcampPageResponseDto {
     @Schema(description = "Tamaño de la página", example = "10")
     private int size;
     
-    @Schema(description = "Total de elementos", example = "100")
-    private long totalElements;
+    @Schema(description = "Total de elementos, nulo si se consultó con count=false", example = "100")
+    private Long totalElements;
     
     @Schema(description = "Total de páginas", example = "10")
     private int totalPages;
@@ -0,0 +1,130 @@
+package co.com.pragma.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.codec.Codecs;
+import io.r2dbc.postgresql.codec.DefaultCodecs;
+import io.r2dbc.postgresql.codec.PostgresqlObjectId;
+import io.r2dbc.postgresql.message.Format;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Filas por segundo al convertir la columna de IDs de los listados a List<Long>, partiendo de los bytes
+ * que envía PostgreSQL: JSON_AGG decodificado por el codec de r2dbc-postgresql como String y leído con
+ * Jackson (implementación anterior) frente a ARRAY_AGG decodificado por el codec int8[] como Long[].
+ * Se mide en formato texto y binario; no incluye el viaje a la base de datos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdListDecodingBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int INT8_LENGTH = 8;
+    private static final TypeReference<List<Long>> ID_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "5", "20"})
+    private int idsPerRow;
+
+    @Param({"FORMAT_TEXT", "FORMAT_BINARY"})
+    private Format format;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Codecs codecs = new DefaultCodecs(ByteBufAllocator.DEFAULT);
+
+    private ByteBuf[] jsonRows;
+    private ByteBuf[] arrayRows;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Long[][] rows = IntStream.range(0, ROWS)
+                .mapToObj(i -> random.longs(idsPerRow, 1, 100_000).boxed().toArray(Long[]::new))
+                .toArray(Long[][]::new);
+
+        // json no tiene representación binaria propia: en ambos formatos viaja como texto
+        jsonRows = encode(rows, ids -> text(Arrays.stream(ids)
+                .map(String::valueOf)
+                .collect(Collectors.joining(", ", "[", "]"))));
+        arrayRows = encode(rows, format == Format.FORMAT_BINARY
+                ? IdListDecodingBenchmark::binaryInt8Array
+                : ids -> text(Arrays.stream(ids)
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",", "{", "}"))));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arrays.stream(jsonRows).forEach(ByteBuf::release);
+        Arrays.stream(arrayRows).forEach(ByteBuf::release);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jsonAggWithJackson(Blackhole blackhole) throws Exception {
+        for (ByteBuf row : jsonRows) {
+            String json = codecs.decode(row.duplicate(), PostgresqlObjectId.JSON.getObjectId(), format, String.class);
+            blackhole.consume(mapper.readValue(json, ID_LIST));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void arrayAggLongArray(Blackhole blackhole) {
+        for (ByteBuf row : arrayRows) {
+            Long[] ids = codecs.decode(row.duplicate(), PostgresqlObjectId.INT8_ARRAY.getObjectId(), format, Long[].class);
+            blackhole.consume(Arrays.asList(ids));
+        }
+    }
+
+    private static ByteBuf[] encode(Long[][] rows, Function<Long[], ByteBuf> encoder) {
+        return Arrays.stream(rows)
+                .map(encoder)
+                .toArray(ByteBuf[]::new);
+    }
+
+    private static ByteBuf text(String value) {
+        return Unpooled.copiedBuffer(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Formato binario de array_send: dimensiones, bandera de nulos, OID del elemento, tamaño y cota
+     * inferior de la dimensión y, por elemento, su longitud seguida del valor
+     */
+    private static ByteBuf binaryInt8Array(Long[] ids) {
+        ByteBuf buffer = Unpooled.buffer(20 + ids.length * (4 + INT8_LENGTH));
+        buffer.writeInt(1);
+        buffer.writeInt(0);
+        buffer.writeInt(PostgresqlObjectId.INT8.getObjectId());
+        buffer.writeInt(ids.length);
+        buffer.writeInt(1);
+        for (Long id : ids) {
+            buffer.writeInt(INT8_LENGTH);
+            buffer.writeLong(id);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,79 @@
+package co.com.pragma.benchmark;
+
+import co.com.pragma.model.capablity.Capability;
+import co.com.pragma.model.technology.Technology;
+import co.com.pragma.usecase.utils.IdIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Compara la unión capacidades-tecnologías de los casos de uso de listado: recorrido con
+ * List.contains por cada capacidad (implementación anterior) frente a IdIndex
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TechnologyEnrichmentBenchmark {
+
+    private static final int TECHNOLOGIES_PER_CAPABILITY = 20;
+
+    @Param({"10", "100", "500", "1000"})
+    private int pageSize;
+
+    private List<Capability> capabilities;
+    private List<Technology> technologies;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int technologyPool = pageSize * 4;
+
+        technologies = LongStream.rangeClosed(1, technologyPool)
+                .mapToObj(id -> Technology.builder().id(id).name("Technology " + id).build())
+                .toList();
+
+        capabilities = IntStream.range(0, pageSize)
+                .mapToObj(i -> Capability.builder()
+                        .id((long) i)
+                        .name("Capability " + i)
+                        .technologyIds(random.longs(TECHNOLOGIES_PER_CAPABILITY, 1, technologyPool + 1L)
+                                               .distinct()
+                                               .boxed()
+                                               .toList())
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<Capability> listContainsScan() {
+        return capabilities.stream()
+                .map(cap -> cap.toBuilder()
+                        .technologies(technologies.stream()
+                                              .filter(t -> cap.getTechnologyIds().contains(t.getId()))
+                                              .toList())
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<Capability> idIndexJoin() {
+        IdIndex<Technology> technologiesById = IdIndex.of(technologies, Technology::getId);
+        return capabilities.stream()
+                .map(cap -> cap.toBuilder()
+                        .technologies(technologiesById.getAll(cap.getTechnologyIds()))
+                        .build())
+                .toList();
+    }
+}
@@ -17,9 +17,10 @@ public class CapabilityPage {
     private final Long totalElements;
     private int totalPages;
     private int currentPage;
+    private String nextCursor;
 
     public CapabilityPage withItems(List<Capability> newContent) {
-        return new CapabilityPage(newContent, this.totalElements, this.totalPages, this.currentPage);
+        return new CapabilityPage(newContent, this.totalElements, this.totalPages, this.currentPage, this.nextCursor);
     }
 };
 
@@ -14,4 +14,6 @@ import java.util.List;
 public class CapabilityStatus {
 
     private Boolean isExisting;
+
+    private List<Long> missingIds;
 }
\ No newline at end of file
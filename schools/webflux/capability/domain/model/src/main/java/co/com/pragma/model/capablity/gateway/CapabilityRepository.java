@@ -1,16 +1,38 @@
 package co.com.pragma.model.capablity.gateway;
 
 import co.com.pragma.model.capablity.Capability;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface CapabilityRepository {
 
     Mono<Capability> save(Capability capability);
 
     Mono<Boolean> findById(Long id);
 
+    /**
+     * Resuelve un conjunto de IDs de capacidades en una sola consulta
+     * @param ids IDs de las capacidades
+     * @return Flux con los IDs que no existen, sin duplicados y en el orden recibido
+     */
+    Flux<Long> findMissingIds(List<Long> ids);
+
     Mono<Capability> findCapabilityById(Long id);
 
-    Mono<Void> deleteById(Long id);
+    /**
+     * Elimina una capacidad y sus relaciones con tecnologías en una sola sentencia
+     * @param id ID de la capacidad
+     * @return Mono con true si la capacidad existía y fue eliminada
+     */
+    Mono<Boolean> deleteById(Long id);
+
+    /**
+     * Elimina varias capacidades y sus relaciones con tecnologías en una sola sentencia
+     * @param ids IDs de las capacidades
+     * @return Flux con los IDs de las capacidades eliminadas; los IDs que no existen se omiten
+     */
+    Flux<Long> deleteAllByIds(List<Long> ids);
 
 }
@@ -1,10 +1,20 @@
 package co.com.pragma.model.capablity.gateway;
 
+import co.com.pragma.model.capablity.Capability;
 import co.com.pragma.model.capablity.CapabilityAndTechnology;
 import reactor.core.publisher.Flux;
 
+import java.util.List;
+
 public interface CapabilityTechnologyRepository {
 
     Flux<CapabilityAndTechnology> findTechnologyAndCapabilityById(Long id);
 
+    /**
+     * Consulta las capacidades con los IDs de sus tecnologías agregados en una sola consulta
+     * @param capabilityIds IDs de las capacidades
+     * @return Flux con las capacidades encontradas, en el orden recibido
+     */
+    Flux<Capability> findCapabilitiesWithTechnologyIds(List<Long> capabilityIds);
+
 }
@@ -1,9 +1,35 @@
 package co.com.pragma.model.capablity.gateway.capabilitylist;
 
+import co.com.pragma.model.capablity.CapabilitiesFilters;
 import co.com.pragma.model.capablity.CapabilityPage;
 import reactor.core.publisher.Mono;
 
 public interface CapabilityListRepository {
 
-    Mono<CapabilityPage> findAll(int page, int size, String sort, String dir);
+    /**
+     * Consulta una página de capacidades por número de página
+     * @param withCount si es false no se calcula el total y totalElements queda nulo
+     * @return Mono con la página de capacidades
+     */
+    Mono<CapabilityPage> findAll(int page, int size, String sort, String dir, boolean withCount);
+
+    /**
+     * Consulta una página de capacidades por cursor (keyset), buscando a partir del último
+     * (valor de ordenamiento, id) entregado en la página anterior
+     * @param cursor cursor opaco de la página anterior, vacío o nulo para la primera página
+     * @param size tamaño de la página
+     * @param sort campo de ordenamiento (nombre o tecnologias)
+     * @param dir dirección del ordenamiento (asc o desc)
+     * @return Mono con la página y el cursor de la siguiente, nulo si no hay más elementos
+     */
+    Mono<CapabilityPage> findAllByCursor(String cursor, int size, String sort, String dir);
+
+    /**
+     * Busca capacidades por prefijo de nombre y cantidad exacta de tecnologías; los filtros nulos se omiten
+     * @param filters filtros de búsqueda (capabilityName como prefijo, techCount, orderBy ASC o DESC)
+     * @param page número de página (inicia en 0)
+     * @param size tamaño de la página
+     * @return Mono con la página de capacidades y el total de coincidencias
+     */
+    Mono<CapabilityPage> findByFilters(CapabilitiesFilters filters, int page, int size);
 }
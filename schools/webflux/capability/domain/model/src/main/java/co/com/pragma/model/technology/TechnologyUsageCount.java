@@ -0,0 +1,19 @@
+package co.com.pragma.model.technology;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnologyUsageCount {
+
+    private Long technologyId;
+
+    private Long usageCount;
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.model.technology.gateway;
+
+import co.com.pragma.model.technology.TechnologyUsageCount;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface TechnologyUsageRepository {
+
+    Flux<Long> findTechnologyIdsByCapabilityId(Long capabilityId);
+
+    Mono<Long> getUsageCount(Long technologyId);
+
+    /**
+     * Obtiene en una sola consulta cuántas capacidades usan cada tecnología
+     * @param technologyIds IDs de las tecnologías
+     * @return Flux con un conteo por cada ID distinto, cero si ninguna capacidad la usa
+     */
+    Flux<TechnologyUsageCount> getUsageCounts(List<Long> technologyIds);
+}
\ No newline at end of file
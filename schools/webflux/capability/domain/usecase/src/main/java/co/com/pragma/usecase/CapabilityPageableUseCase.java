@@ -1,10 +1,12 @@
 package co.com.pragma.usecase;
 
+import co.com.pragma.model.capablity.CapabilitiesFilters;
 import co.com.pragma.model.capablity.CapabilityPage;
 import co.com.pragma.model.technology.Technology;
 import co.com.pragma.model.technology.TechnologyIds;
 import co.com.pragma.model.capablity.gateway.capabilitylist.CapabilityListRepository;
 import co.com.pragma.model.technology.gateway.TechnologyRepository;
+import co.com.pragma.usecase.utils.IdIndex;
 import lombok.AllArgsConstructor;
 import lombok.extern.java.Log;
 import reactor.core.publisher.Mono;
@@ -21,14 +23,42 @@ public class CapabilityPageableUseCase {
     private final TechnologyRepository technologyRepository;
 
     public Mono<CapabilityPage> execute(int page, int size, String sort, String dir) {
+        return execute(page, size, sort, dir, true);
+    }
+
+    public Mono<CapabilityPage> execute(int page, int size, String sort, String dir, boolean withCount) {
+
+        log.log(
+                Level.INFO,
+                "Executing capability pageable use case, page={0}, size={1}, sort={2}, dir={3}, withCount={4}",
+                new Object[]{page, size, sort, dir, withCount}
+        );
+
+        return capabilitiesRepository.findAll(page, size, sort, dir, withCount)
+                .flatMap(this::enrichWithTechnologies);
+    }
+
+    public Mono<CapabilityPage> executeByCursor(String cursor, int size, String sort, String dir) {
 
         log.log(
                 Level.INFO,
-                "Executing capability pageable use case, page={0}, size={1}, sort={2}, dir={3}",
-                new Object[]{page, size, sort, dir}
+                "Executing capability cursor use case, size={0}, sort={1}, dir={2}",
+                new Object[]{size, sort, dir}
         );
 
-        return capabilitiesRepository.findAll(page, size, sort, dir)
+        return capabilitiesRepository.findAllByCursor(cursor, size, sort, dir)
+                .flatMap(this::enrichWithTechnologies);
+    }
+
+    public Mono<CapabilityPage> executeSearch(CapabilitiesFilters filters, int page, int size) {
+
+        log.log(
+                Level.INFO,
+                "Executing capability search use case, name={0}, techCount={1}, page={2}, size={3}",
+                new Object[]{filters.getCapabilityName(), filters.getTechCount(), page, size}
+        );
+
+        return capabilitiesRepository.findByFilters(filters, page, size)
                 .flatMap(this::enrichWithTechnologies);
     }
 
@@ -65,15 +95,13 @@ public class CapabilityPageableUseCase {
             List<Technology> allTechnologies
     ) {
 
+        IdIndex<Technology> technologiesById = IdIndex.of(allTechnologies, Technology::getId);
+
         return pageData.withItems(
                 pageData.getItems()
                         .stream()
                         .map(cap -> cap.toBuilder()
-                                .technologies(
-                                     allTechnologies.stream()
-                                     .filter(t -> cap.getTechnologyIds().contains(t.getId()))
-                                     .toList()
-                                )
+                                .technologies(technologiesById.getAll(cap.getTechnologyIds()))
                                 .technologyIds(Collections.emptyList())
                                 .build()
                         )
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.java.Log;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.logging.Level;
 
 @Log
@@ -16,18 +17,30 @@ public class DeleteCapabilityUseCase {
     public Mono<Void> execute(Long capabilityId) {
         log.log(Level.INFO, "Executing delete capability use case, capabilityId={0}", capabilityId);
 
-        // Verificar que la capacidad existe antes de eliminar
-        return capabilityRepository.findById(capabilityId)
-                .flatMap(exists -> {
-                    if (!exists) {
+        // La sentencia de borrado indica si la capacidad existía, sin una consulta previa
+        return capabilityRepository.deleteById(capabilityId)
+                .flatMap(deleted -> {
+                    if (!deleted) {
                         log.warning("Capability not found for deletion, capabilityId=" + capabilityId);
-                        return Mono.error(new RuntimeException("Capability not found with id: " + capabilityId));
+                        return Mono.<Void>error(new RuntimeException("Capability not found with id: " + capabilityId));
                     }
-                    return capabilityRepository.deleteById(capabilityId)
-                            .doOnSuccess(v -> log.log(Level.INFO, 
-                                    "Capability deleted successfully, capabilityId={0}", capabilityId))
-                            .doOnError(error -> log.severe("Error deleting capability, capabilityId=" + capabilityId + ", error=" + error.getMessage()));
+                    log.log(Level.INFO, "Capability deleted successfully, capabilityId={0}", capabilityId);
+                    return Mono.<Void>empty();
                 })
+                .doOnError(error -> log.severe("Error deleting capability, capabilityId=" + capabilityId + ", error=" + error.getMessage()))
                 .then();
     }
+
+    public Mono<List<Long>> executeAll(List<Long> capabilityIds) {
+        log.log(Level.INFO, "Executing bulk delete capability use case, idsCount={0}", capabilityIds.size());
+
+        return capabilityRepository.deleteAllByIds(capabilityIds)
+                .collectList()
+                .doOnNext(deletedIds -> log.log(
+                        Level.INFO,
+                        "Capabilities deleted successfully, requested={0}, deleted={1}",
+                        new Object[]{capabilityIds.size(), deletedIds.size()}
+                ))
+                .doOnError(error -> log.severe("Error deleting capabilities, error=" + error.getMessage()));
+    }
 }
@@ -3,6 +3,7 @@ package co.com.pragma.usecase;
 import co.com.pragma.model.technology.Technology;
 import co.com.pragma.model.technology.TechnologyIds;
 import co.com.pragma.model.technology.gateway.TechnologyRepository;
+import co.com.pragma.model.technology.gateway.TechnologyUsageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import reactor.core.publisher.Flux;
@@ -13,7 +14,7 @@ import java.util.logging.Level;
 @RequiredArgsConstructor
 public class GetTechnologiesByCapabilityUseCase {
 
-    private final TechnologyRepository technologyR2dbcRepository; // Para consultar BD local
+    private final TechnologyUsageRepository technologyR2dbcRepository; // Para consultar BD local
     private final TechnologyRepository technologyApiRepository; // Para consultar API externa
 
     public Flux<Technology> execute(Long capabilityId) {
@@ -1,18 +1,21 @@
 package co.com.pragma.usecase;
 
-import co.com.pragma.model.technology.gateway.TechnologyRepository;
+import co.com.pragma.model.technology.TechnologyUsageCount;
+import co.com.pragma.model.technology.gateway.TechnologyUsageRepository;
 import lombok.extern.java.Log;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.logging.Level;
 
 @Log
 public class GetTechnologyUsageCountUseCase {
 
-    private final TechnologyRepository technologyR2dbcRepository;
+    private final TechnologyUsageRepository technologyR2dbcRepository;
 
     public GetTechnologyUsageCountUseCase(
-            TechnologyRepository technologyR2dbcRepository) {
+            TechnologyUsageRepository technologyR2dbcRepository) {
         this.technologyR2dbcRepository = technologyR2dbcRepository;
     }
 
@@ -25,4 +28,11 @@ public class GetTechnologyUsageCountUseCase {
                         new Object[]{technologyId, count}))
                 .doOnError(error -> log.severe("Error getting usage count, technologyId=" + technologyId + ", error=" + error.getMessage()));
     }
+
+    public Flux<TechnologyUsageCount> executeAll(List<Long> technologyIds) {
+        log.log(Level.INFO, "Executing get technology usage counts use case, technologyIdsCount={0}", technologyIds.size());
+
+        return technologyR2dbcRepository.getUsageCounts(technologyIds)
+                .doOnError(error -> log.severe("Error getting usage counts, error=" + error.getMessage()));
+    }
 }
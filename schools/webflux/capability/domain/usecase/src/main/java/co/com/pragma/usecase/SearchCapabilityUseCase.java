@@ -3,10 +3,8 @@ package co.com.pragma.usecase;
 import co.com.pragma.model.capablity.CapabilityIds;
 import co.com.pragma.model.capablity.CapabilityStatus;
 import co.com.pragma.model.capablity.gateway.CapabilityRepository;
-import co.com.pragma.model.exceptions.BusinessException;
 import lombok.AllArgsConstructor;
 import lombok.extern.java.Log;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.logging.Level;
@@ -25,20 +23,16 @@ public class SearchCapabilityUseCase {
                 new Object[]{capabilityIds.getCapabilityIds()}
         );
 
-        return Flux.fromIterable(capabilityIds.getCapabilityIds())
-                .flatMap(capabilityRepository::findById)
+        return capabilityRepository.findMissingIds(capabilityIds.getCapabilityIds())
                 .collectList()
-                .map(foundCapabilities -> {
-                    log.info("------" + foundCapabilities + "-------");
-                    return foundCapabilities.contains(Boolean.FALSE) ? Boolean.FALSE : Boolean.TRUE;
-                })
-                .flatMap(allExist -> {
-                    if (!allExist) {
-                        return Mono.error(new BusinessException("One or more capabilities are not registered"));
+                .map(missingIds -> {
+                    if (!missingIds.isEmpty()) {
+                        log.log(Level.INFO, "Capabilities not registered, missingIds={0}", new Object[]{missingIds});
                     }
-                    return Mono.just(CapabilityStatus.builder()
-                                             .isExisting(Boolean.TRUE)
-                                             .build());
+                    return CapabilityStatus.builder()
+                            .isExisting(missingIds.isEmpty())
+                            .missingIds(missingIds)
+                            .build();
                 });
     }
 }
@@ -1,27 +1,27 @@
 package co.com.pragma.usecase;
 
 import co.com.pragma.model.capablity.Capability;
-import co.com.pragma.model.capablity.CapabilityAndTechnology;
 import co.com.pragma.model.capablity.CapabilityIds;
-import co.com.pragma.model.capablity.gateway.CapabilityRepository;
 import co.com.pragma.model.capablity.gateway.CapabilityTechnologyRepository;
+import co.com.pragma.model.exceptions.BusinessException;
 import co.com.pragma.model.technology.Technology;
 import co.com.pragma.model.technology.TechnologyIds;
 import co.com.pragma.model.technology.gateway.TechnologyRepository;
+import co.com.pragma.usecase.utils.IdIndex;
 import lombok.AllArgsConstructor;
 import lombok.extern.java.Log;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 @Log
 @AllArgsConstructor
 public class SearchCapabilityWithTechnologiesUseCase {
 
-    private final CapabilityRepository capabilityRepository;
     private final TechnologyRepository technologyRepository;
     private final CapabilityTechnologyRepository capabilityTechnologyRepository;
 
@@ -33,12 +33,12 @@ public class SearchCapabilityWithTechnologiesUseCase {
                 new Object[]{capabilityIds.getCapabilityIds()}
         );
 
-        return Flux.fromIterable(capabilityIds.getCapabilityIds())
-                .flatMap(capabilityRepository::findCapabilityById)
+        // Capacidades con sus IDs de tecnologías en una sola consulta
+        return capabilityTechnologyRepository.findCapabilitiesWithTechnologyIds(capabilityIds.getCapabilityIds())
                 .collectList()
+                .flatMap(capabilities -> validateAllFound(capabilityIds.getCapabilityIds(), capabilities))
                 .doOnNext(capabilities ->
                         log.log(Level.INFO, "Found {0} capabilities", new Object[]{capabilities.size()}))
-                .flatMap(this::enrichWithTechnologyIds)
                 .flatMap(this::enrichWithTechnologies)
                 .doOnSuccess(capabilities ->
                                      log.log(Level.INFO,
@@ -48,23 +48,21 @@ public class SearchCapabilityWithTechnologiesUseCase {
                                    log.severe("Error in search capability use case: " + error.getMessage()));
     }
 
-    private Mono<List<Capability>> enrichWithTechnologyIds(List<Capability> capabilities){
+    private Mono<List<Capability>> validateAllFound(List<Long> requestedIds, List<Capability> capabilities) {
 
-        return Flux.fromIterable(capabilities)
-                .flatMap(capability -> capabilityTechnologyRepository.findTechnologyAndCapabilityById(capability.getId())
-                        .collectList()
-                        .map(capabilityAndTechnologies -> {
+        Set<Long> foundIds = capabilities.stream()
+                .map(Capability::getId)
+                .collect(Collectors.toSet());
 
-                            List<Long> technologyIds = capabilityAndTechnologies.stream()
-                                    .map(CapabilityAndTechnology::getTechnologyId)
-                                    .toList();
+        List<Long> missingIds = requestedIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .distinct()
+                .toList();
 
-                            return capability.toBuilder()
-                                    .technologyIds(technologyIds)
-                                    .build();
-                        }))
-                .collectList()
-                .doOnNext( capabilities1 ->  log.log(Level.INFO, "Enriched capabilities with technologies, total capabilities={0}", new Object[]{capabilities1.size()}));
+        if (!missingIds.isEmpty()) {
+            return Mono.error(new BusinessException("Capability not found with id=" + missingIds));
+        }
+        return Mono.just(capabilities);
     }
 
     private Mono<List<Capability>> enrichWithTechnologies(List<Capability> capabilities){
@@ -108,13 +106,11 @@ public class SearchCapabilityWithTechnologiesUseCase {
             List<Capability> capabilities,
             List<Technology> allTechnologies
     ) {
+        IdIndex<Technology> technologiesById = IdIndex.of(allTechnologies, Technology::getId);
+
         return capabilities.stream()
                 .map(cap -> cap.toBuilder()
-                        .technologies(
-                                allTechnologies.stream()
-                                        .filter(tech -> cap.getTechnologyIds().contains(tech.getId()))
-                                        .toList()
-                        )
+                        .technologies(technologiesById.getAll(cap.getTechnologyIds()))
                         // Opcional: limpiar los IDs ya que ahora tenemos los objetos completos
                         .technologyIds(Collections.emptyList())
                         .build()
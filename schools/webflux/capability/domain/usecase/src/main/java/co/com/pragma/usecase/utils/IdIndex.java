@@ -0,0 +1,85 @@
+package co.com.pragma.usecase.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Índice por ID (clave long sin boxing, direccionamiento abierto) para unir en memoria los
+ * resultados de un servicio externo con los elementos de una página. Se construye una vez por
+ * página y cada búsqueda es O(1), en lugar de recorrer todos los resultados por cada elemento.
+ * Si hay IDs repetidos en los resultados se conserva el primero.
+ */
+public final class IdIndex<T> {
+
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final long[] keys;
+    private final Object[] values;
+    private final int mask;
+
+    private IdIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static <T> IdIndex<T> of(Collection<T> items, Function<T, Long> idExtractor) {
+        IdIndex<T> index = new IdIndex<>(items.size());
+        for (T item : items) {
+            Long id = item != null ? idExtractor.apply(item) : null;
+            if (id != null) {
+                index.putIfAbsent(id, item);
+            }
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(long id) {
+        int slot = slot(id);
+        while (values[slot] != null) {
+            if (keys[slot] == id) {
+                return (T) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Resuelve los IDs en el orden recibido, omitiendo los nulos y los que no están en el índice
+     */
+    public List<T> getAll(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<T> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T value = id != null ? get(id) : null;
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    private void putIfAbsent(long id, T item) {
+        int slot = slot(id);
+        while (values[slot] != null) {
+            if (keys[slot] == id) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        values[slot] = item;
+    }
+
+    private int slot(long id) {
+        long hash = id * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -1,5 +1,6 @@
 package co.com.pragma.usecase;
 
+import co.com.pragma.model.capablity.CapabilitiesFilters;
 import co.com.pragma.model.capablity.Capability;
 import co.com.pragma.model.capablity.CapabilityPage;
 import co.com.pragma.model.capablity.gateway.capabilitylist.CapabilityListRepository;
@@ -77,7 +78,7 @@ class CapabilityPageableUseCaseTest {
     @Test
     @DisplayName("Should return capabilities page with technologies enriched")
     void shouldReturnCapabilitiesPageWithTechnologies() {
-        when(capabilitiesRepository.findAll(0, 10, "nombre", "asc"))
+        when(capabilitiesRepository.findAll(0, 10, "nombre", "asc", true))
                 .thenReturn(Mono.just(capabilityPage));
 
         when(technologyRepository.findAllByIds(any(TechnologyIds.class)))
@@ -113,7 +114,7 @@ class CapabilityPageableUseCaseTest {
                 1L
         );
 
-        when(capabilitiesRepository.findAll(0, 10, "nombre", "asc"))
+        when(capabilitiesRepository.findAll(0, 10, "nombre", "asc", true))
                 .thenReturn(Mono.just(pageWithoutTechIds));
 
         StepVerifier.create(capabilityPageableUseCase.execute(0, 10, "nombre", "asc"))
@@ -125,11 +126,67 @@ class CapabilityPageableUseCaseTest {
     @Test
     @DisplayName("Should propagate error when repository fails")
     void shouldPropagateErrorWhenRepositoryFails() {
-        when(capabilitiesRepository.findAll(0, 10, "nombre", "asc"))
+        when(capabilitiesRepository.findAll(0, 10, "nombre", "asc", true))
                 .thenReturn(Mono.error(new RuntimeException("Database error")));
 
         StepVerifier.create(capabilityPageableUseCase.execute(0, 10, "nombre", "asc"))
                 .expectError(RuntimeException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("Should skip total count when count is not requested")
+    void shouldSkipTotalCountWhenNotRequested() {
+        when(capabilitiesRepository.findAll(0, 10, "nombre", "asc", false))
+                .thenReturn(Mono.just(new CapabilityPage(Arrays.asList(capability1, capability2), null)));
+
+        when(technologyRepository.findAllByIds(any(TechnologyIds.class)))
+                .thenReturn(Flux.just(technology1, technology2));
+
+        StepVerifier.create(capabilityPageableUseCase.execute(0, 10, "nombre", "asc", false))
+                .expectNextMatches(page -> page.getItems().size() == 2 && page.getTotalElements() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return cursor page with technologies enriched and keep next cursor")
+    void shouldReturnCursorPageWithTechnologies() {
+        CapabilityPage cursorPage = CapabilityPage.builder()
+                .items(Arrays.asList(capability1, capability2))
+                .nextCursor("next-cursor")
+                .build();
+
+        when(capabilitiesRepository.findAllByCursor("cursor", 2, "tecnologias", "desc"))
+                .thenReturn(Mono.just(cursorPage));
+        when(technologyRepository.findAllByIds(any(TechnologyIds.class)))
+                .thenReturn(Flux.just(technology1, technology2));
+
+        StepVerifier.create(capabilityPageableUseCase.executeByCursor("cursor", 2, "tecnologias", "desc"))
+                .expectNextMatches(page -> "next-cursor".equals(page.getNextCursor()) &&
+                        page.getItems().get(0).getTechnologies().size() == 2 &&
+                        page.getItems().get(1).getTechnologies().size() == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should search capabilities by filters and enrich them with technologies")
+    void shouldSearchCapabilitiesByFilters() {
+        CapabilitiesFilters filters = CapabilitiesFilters.builder()
+                .capabilityName("back")
+                .techCount(2)
+                .orderBy("ASC")
+                .build();
+
+        when(capabilitiesRepository.findByFilters(filters, 0, 10))
+                .thenReturn(Mono.just(new CapabilityPage(List.of(capability1), 1L)));
+
+        when(technologyRepository.findAllByIds(any(TechnologyIds.class)))
+                .thenReturn(Flux.just(technology1, technology2));
+
+        StepVerifier.create(capabilityPageableUseCase.executeSearch(filters, 0, 10))
+                .expectNextMatches(page -> page.getItems().size() == 1
+                        && page.getItems().get(0).getTechnologies().size() == 2
+                        && page.getTotalElements() == 1L)
+                .verifyComplete();
+    }
 }
@@ -9,9 +9,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 
@@ -28,8 +31,7 @@ class DeleteCapabilityUseCaseTest {
     @Test
     @DisplayName("Should delete capability successfully when it exists")
     void shouldDeleteCapabilitySuccessfully() {
-        when(capabilityRepository.findById(anyLong())).thenReturn(Mono.just(true));
-        when(capabilityRepository.deleteById(anyLong())).thenReturn(Mono.empty());
+        when(capabilityRepository.deleteById(anyLong())).thenReturn(Mono.just(true));
         StepVerifier.create(deleteCapabilityUseCase.execute(1L))
                 .verifyComplete();
     }
@@ -37,7 +39,7 @@ class DeleteCapabilityUseCaseTest {
     @Test
     @DisplayName("Should throw error when capability does not exist")
     void shouldThrowErrorWhenCapabilityDoesNotExist() {
-        when(capabilityRepository.findById(anyLong())).thenReturn(Mono.just(false));
+        when(capabilityRepository.deleteById(anyLong())).thenReturn(Mono.just(false));
         StepVerifier.create(deleteCapabilityUseCase.execute(999L))
                 .expectErrorMatches(error -> 
                     error instanceof RuntimeException && 
@@ -48,12 +50,21 @@ class DeleteCapabilityUseCaseTest {
     @Test
     @DisplayName("Should propagate error when repository fails")
     void shouldPropagateErrorWhenRepositoryFails() {
-        when(capabilityRepository.findById(anyLong())).thenReturn(Mono.just(true));
-        when(capabilityRepository.findById(1L))
+        when(capabilityRepository.deleteById(1L))
                 .thenReturn(Mono.error(new RuntimeException("Database error")));
 
         StepVerifier.create(deleteCapabilityUseCase.execute(1L))
                 .expectError(RuntimeException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("Should return only the capability ids that were deleted")
+    void shouldReturnDeletedIdsOnBulkDelete() {
+        when(capabilityRepository.deleteAllByIds(List.of(1L, 2L, 3L))).thenReturn(Flux.just(1L, 3L));
+
+        StepVerifier.create(deleteCapabilityUseCase.executeAll(List.of(1L, 2L, 3L)))
+                .expectNext(List.of(1L, 3L))
+                .verifyComplete();
+    }
 }
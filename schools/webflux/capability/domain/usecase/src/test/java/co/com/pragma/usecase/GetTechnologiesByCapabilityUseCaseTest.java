@@ -3,6 +3,7 @@ package co.com.pragma.usecase;
 import co.com.pragma.model.technology.Technology;
 import co.com.pragma.model.technology.TechnologyIds;
 import co.com.pragma.model.technology.gateway.TechnologyRepository;
+import co.com.pragma.model.technology.gateway.TechnologyUsageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,7 +25,7 @@ import static org.mockito.Mockito.when;
 class GetTechnologiesByCapabilityUseCaseTest {
 
     @Mock
-    private TechnologyRepository technologyR2dbcRepository;
+    private TechnologyUsageRepository technologyR2dbcRepository;
 
     @Mock
     private TechnologyRepository technologyApiRepository;
@@ -1,16 +1,19 @@
 package co.com.pragma.usecase;
 
-import co.com.pragma.model.technology.gateway.TechnologyRepository;
-import org.junit.jupiter.api.BeforeEach;
+import co.com.pragma.model.technology.TechnologyUsageCount;
+import co.com.pragma.model.technology.gateway.TechnologyUsageRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -18,7 +21,7 @@ import static org.mockito.Mockito.when;
 class GetTechnologyUsageCountUseCaseTest {
 
     @Mock
-    private TechnologyRepository technologyR2dbcRepository;
+    private TechnologyUsageRepository technologyR2dbcRepository;
 
     @InjectMocks
     private GetTechnologyUsageCountUseCase getTechnologyUsageCountUseCase;
@@ -26,15 +29,12 @@ class GetTechnologyUsageCountUseCaseTest {
     private Long technologyId = 1L;
     private Long usageCount = 5L;
 
-    @BeforeEach
-    void setUp() {
-        when(technologyR2dbcRepository.getUsageCount(technologyId))
-                .thenReturn(Mono.just(usageCount));
-    }
-
     @Test
     @DisplayName("Should return usage count successfully")
     void shouldReturnUsageCountSuccessfully() {
+        when(technologyR2dbcRepository.getUsageCount(technologyId))
+                .thenReturn(Mono.just(usageCount));
+
         StepVerifier.create(getTechnologyUsageCountUseCase.execute(technologyId))
                 .expectNext(5L)
                 .verifyComplete();
@@ -61,4 +61,19 @@ class GetTechnologyUsageCountUseCaseTest {
                 .expectError(RuntimeException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("Should return usage counts for every requested technology")
+    void shouldReturnUsageCountsForRequestedTechnologies() {
+        when(technologyR2dbcRepository.getUsageCounts(List.of(1L, 2L)))
+                .thenReturn(Flux.just(
+                        TechnologyUsageCount.builder().technologyId(1L).usageCount(5L).build(),
+                        TechnologyUsageCount.builder().technologyId(2L).usageCount(0L).build()
+                ));
+
+        StepVerifier.create(getTechnologyUsageCountUseCase.executeAll(List.of(1L, 2L)))
+                .expectNextMatches(usage -> usage.getTechnologyId() == 1L && usage.getUsageCount() == 5L)
+                .expectNextMatches(usage -> usage.getTechnologyId() == 2L && usage.getUsageCount() == 0L)
+                .verifyComplete();
+    }
 }
@@ -2,7 +2,6 @@ package co.com.pragma.usecase;
 
 import co.com.pragma.model.capablity.CapabilityIds;
 import co.com.pragma.model.capablity.gateway.CapabilityRepository;
-import co.com.pragma.model.exceptions.BusinessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,11 +9,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import java.util.Arrays;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,33 +47,33 @@ class SearchCapabilityUseCaseTest {
     @Test
     @DisplayName("Should return CapabilityStatus with isExisting true when all capabilities exist")
     void shouldReturnTrueWhenAllCapabilitiesExist() {
-        when(capabilityRepository.findById(1L)).thenReturn(Mono.just(true));
-        when(capabilityRepository.findById(2L)).thenReturn(Mono.just(true));
+        when(capabilityRepository.findMissingIds(Arrays.asList(1L, 2L))).thenReturn(Flux.empty());
 
         StepVerifier.create(searchCapabilityUseCase.execute(existingCapabilityIds))
                 .expectNextMatches(status -> 
-                    status.getIsExisting().equals(Boolean.TRUE))
+                    status.getIsExisting().equals(Boolean.TRUE) && status.getMissingIds().isEmpty())
                 .verifyComplete();
+
+        verify(capabilityRepository, never()).findById(anyLong());
     }
 
     @Test
-    @DisplayName("Should throw BusinessException when one or more capabilities do not exist")
-    void shouldThrowExceptionWhenCapabilitiesDoNotExist() {
-        when(capabilityRepository.findById(1L)).thenReturn(Mono.just(true));
-        when(capabilityRepository.findById(999L)).thenReturn(Mono.just(false));
+    @DisplayName("Should return CapabilityStatus with the missing ids when one or more capabilities do not exist")
+    void shouldReturnMissingIdsWhenCapabilitiesDoNotExist() {
+        when(capabilityRepository.findMissingIds(Arrays.asList(1L, 999L))).thenReturn(Flux.just(999L));
 
         StepVerifier.create(searchCapabilityUseCase.execute(nonExistingCapabilityIds))
-                .expectErrorMatches(error -> 
-                    error instanceof BusinessException && 
-                    error.getMessage().equals("One or more capabilities are not registered"))
-                .verify();
+                .expectNextMatches(status ->
+                    status.getIsExisting().equals(Boolean.FALSE) &&
+                    status.getMissingIds().equals(List.of(999L)))
+                .verifyComplete();
     }
 
     @Test
     @DisplayName("Should propagate error when repository fails")
     void shouldPropagateErrorWhenRepositoryFails() {
-        when(capabilityRepository.findById(1L))
-                .thenReturn(Mono.error(new RuntimeException("Database error")));
+        when(capabilityRepository.findMissingIds(Arrays.asList(1L, 2L)))
+                .thenReturn(Flux.error(new RuntimeException("Database error")));
 
         StepVerifier.create(searchCapabilityUseCase.execute(existingCapabilityIds))
                 .expectError(RuntimeException.class)
@@ -1,10 +1,9 @@
 package co.com.pragma.usecase;
 
 import co.com.pragma.model.capablity.Capability;
-import co.com.pragma.model.capablity.CapabilityAndTechnology;
 import co.com.pragma.model.capablity.CapabilityIds;
-import co.com.pragma.model.capablity.gateway.CapabilityRepository;
 import co.com.pragma.model.capablity.gateway.CapabilityTechnologyRepository;
+import co.com.pragma.model.exceptions.BusinessException;
 import co.com.pragma.model.technology.Technology;
 import co.com.pragma.model.technology.TechnologyIds;
 import co.com.pragma.model.technology.gateway.TechnologyRepository;
@@ -16,7 +15,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Arrays;
@@ -29,9 +27,6 @@ import static org.mockito.Mockito.when;
 @DisplayName("SearchCapabilityWithTechnologiesUseCase Tests")
 class SearchCapabilityWithTechnologiesUseCaseTest {
 
-    @Mock
-    private CapabilityRepository capabilityRepository;
-
     @Mock
     private TechnologyRepository technologyRepository;
 
@@ -46,8 +41,6 @@ class SearchCapabilityWithTechnologiesUseCaseTest {
     private Capability capability2;
     private Technology technology1;
     private Technology technology2;
-    private List<CapabilityAndTechnology> capabilityTechnologyRelations1;
-    private List<CapabilityAndTechnology> capabilityTechnologyRelations2;
 
     @BeforeEach
     void setUp() {
@@ -59,12 +52,14 @@ class SearchCapabilityWithTechnologiesUseCaseTest {
                 .id(1L)
                 .name("Backend Development")
                 .description("Backend skills")
+                .technologyIds(Arrays.asList(1L, 2L))
                 .build();
 
         capability2 = Capability.builder()
                 .id(2L)
                 .name("Frontend Development")
                 .description("Frontend skills")
+                .technologyIds(List.of(1L))
                 .build();
 
         technology1 = Technology.builder()
@@ -76,37 +71,14 @@ class SearchCapabilityWithTechnologiesUseCaseTest {
                 .id(2L)
                 .name("Spring")
                 .build();
-
-        capabilityTechnologyRelations1 = Arrays.asList(
-                CapabilityAndTechnology.builder()
-                        .capabilityId(1L)
-                        .technologyId(1L)
-                        .build(),
-                CapabilityAndTechnology.builder()
-                        .capabilityId(1L)
-                        .technologyId(2L)
-                        .build()
-        );
-
-        capabilityTechnologyRelations2 = Arrays.asList(
-                CapabilityAndTechnology.builder()
-                        .capabilityId(2L)
-                        .technologyId(1L)
-                        .build()
-        );
     }
 
     @Test
     @DisplayName("Should return capabilities with technologies when all data exists")
     void shouldReturnCapabilitiesWithTechnologies() {
 
-        when(capabilityRepository.findCapabilityById(1L)).thenReturn(Mono.just(capability1));
-        when(capabilityRepository.findCapabilityById(2L)).thenReturn(Mono.just(capability2));
-        
-        when(capabilityTechnologyRepository.findTechnologyAndCapabilityById(1L))
-                .thenReturn(Flux.fromIterable(capabilityTechnologyRelations1));
-        when(capabilityTechnologyRepository.findTechnologyAndCapabilityById(2L))
-                .thenReturn(Flux.fromIterable(capabilityTechnologyRelations2));
+        when(capabilityTechnologyRepository.findCapabilitiesWithTechnologyIds(Arrays.asList(1L, 2L)))
+                .thenReturn(Flux.just(capability1, capability2));
 
         when(technologyRepository.findAllByIds(any(TechnologyIds.class)))
                 .thenReturn(Flux.just(technology1, technology2));
@@ -125,10 +97,8 @@ class SearchCapabilityWithTechnologiesUseCaseTest {
     @Test
     @DisplayName("Should return capabilities without technologies when no technology relations exist")
     void shouldReturnCapabilitiesWithoutTechnologies() {
-        when(capabilityRepository.findCapabilityById(1L)).thenReturn(Mono.just(capability1));
-        
-        when(capabilityTechnologyRepository.findTechnologyAndCapabilityById(1L))
-                .thenReturn(Flux.empty());
+        when(capabilityTechnologyRepository.findCapabilitiesWithTechnologyIds(Arrays.asList(1L)))
+                .thenReturn(Flux.just(capability1.toBuilder().technologyIds(List.of()).build()));
 
         StepVerifier.create(searchCapabilityWithTechnologiesUseCase.execute(
                 CapabilityIds.builder().capabilityIds(Arrays.asList(1L)).build()))
@@ -142,12 +112,24 @@ class SearchCapabilityWithTechnologiesUseCaseTest {
     @Test
     @DisplayName("Should propagate error when capability repository fails")
     void shouldPropagateErrorWhenCapabilityRepositoryFails() {
-        when(capabilityRepository.findCapabilityById(1L))
-                .thenReturn(Mono.error(new RuntimeException("Database error")));
+        when(capabilityTechnologyRepository.findCapabilitiesWithTechnologyIds(Arrays.asList(1L)))
+                .thenReturn(Flux.error(new RuntimeException("Database error")));
 
         StepVerifier.create(searchCapabilityWithTechnologiesUseCase.execute(
                 CapabilityIds.builder().capabilityIds(Arrays.asList(1L)).build()))
                 .expectError(RuntimeException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("Should return BusinessException when a capability does not exist")
+    void shouldReturnErrorWhenCapabilityDoesNotExist() {
+        when(capabilityTechnologyRepository.findCapabilitiesWithTechnologyIds(Arrays.asList(1L, 2L)))
+                .thenReturn(Flux.just(capability1));
+
+        StepVerifier.create(searchCapabilityWithTechnologiesUseCase.execute(capabilityIds))
+                .expectErrorMatches(error -> error instanceof BusinessException &&
+                        error.getMessage().equals("Capability not found with id=[2]"))
+                .verify();
+    }
 }
@@ -0,0 +1,64 @@
+package co.com.pragma.usecase.utils;
+
+import co.com.pragma.model.technology.Technology;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("IdIndex Tests")
+class IdIndexTest {
+
+    @Test
+    @DisplayName("Should resolve ids in request order skipping unknown and null ids")
+    void shouldResolveIdsInRequestOrder() {
+        // Arrange
+        Technology java = Technology.builder().id(1L).name("Java").build();
+        Technology spring = Technology.builder().id(2L).name("Spring").build();
+        IdIndex<Technology> index = IdIndex.of(List.of(java, spring), Technology::getId);
+
+        // Act
+        List<Technology> result = index.getAll(Arrays.asList(2L, 99L, null, 1L));
+
+        // Assert
+        assertEquals(List.of(spring, java), result);
+        assertNull(index.get(99L));
+    }
+
+    @Test
+    @DisplayName("Should keep the first item when ids are repeated")
+    void shouldKeepFirstItemWhenIdsAreRepeated() {
+        // Arrange
+        Technology first = Technology.builder().id(1L).name("First").build();
+        Technology second = Technology.builder().id(1L).name("Second").build();
+
+        // Act
+        IdIndex<Technology> index = IdIndex.of(List.of(first, second), Technology::getId);
+
+        // Assert
+        assertEquals("First", index.get(1L).getName());
+    }
+
+    @Test
+    @DisplayName("Should resolve every id when the index holds many colliding keys")
+    void shouldResolveManyKeys() {
+        // Arrange
+        List<Technology> technologies = LongStream.range(0, 5_000)
+                .map(i -> i * 1024)
+                .mapToObj(id -> Technology.builder().id(id).name("T" + id).build())
+                .toList();
+
+        // Act
+        IdIndex<Technology> index = IdIndex.of(technologies, Technology::getId);
+
+        // Assert
+        assertTrue(technologies.stream().allMatch(t -> index.get(t.getId()) == t));
+        assertTrue(index.getAll(List.of()).isEmpty());
+    }
+}
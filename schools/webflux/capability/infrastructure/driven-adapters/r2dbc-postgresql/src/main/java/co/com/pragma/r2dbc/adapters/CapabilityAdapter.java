@@ -4,43 +4,58 @@ import co.com.pragma.model.capablity.Capability;
 import co.com.pragma.model.capablity.gateway.CapabilityRepository;
 import co.com.pragma.r2dbc.entity.CapabilityEntity;
 import co.com.pragma.r2dbc.mappers.CapabilityR2dbcMapper;
-import co.com.pragma.r2dbc.mappers.CapabilityTechnologyR2dbcMapper;
+import co.com.pragma.r2dbc.providers.CapabilitySQLProvider;
 import co.com.pragma.r2dbc.repositories.CapabilityReactiveRepository;
-import co.com.pragma.r2dbc.repositories.CapabilityTechnologyReactiveRepository;
+import co.com.pragma.r2dbc.utils.TableCounter;
+import co.com.pragma.r2dbc.utils.TechnologyUsageIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class CapabilityAdapter implements CapabilityRepository {
 
     private final CapabilityReactiveRepository capabilityReactiveRepository;
-    private final CapabilityTechnologyReactiveRepository capabilityTechnologyReactiveRepository;
     private final CapabilityR2dbcMapper technologyR2dbcMapper;
-    private final CapabilityTechnologyR2dbcMapper capabilityTechnologyR2dbcMapper;
+    private final DatabaseClient client;
+    private final CapabilitySQLProvider sqlProvider;
+    private final TableCounter capabilityCounter;
+    private final TechnologyUsageIndex technologyUsageIndex;
 
     @Override
-    @Transactional
     public Mono<Capability> save(Capability capability) {
 
         log.debug("Saving capability to database, capabilityName={}", capability.getName());
 
         CapabilityEntity entity = technologyR2dbcMapper.toEntity(capability);
+        Long[] technologyIds = capability.getTechnologyIds() == null
+                ? new Long[0]
+                : capability.getTechnologyIds().toArray(Long[]::new);
+
+        DatabaseClient.GenericExecuteSpec spec = client.sql(sqlProvider.insertCapabilityWithTechnologies())
+                .bind("name", entity.getName())
+                .bind("technologyCount", entity.getTechnologyCount())
+                .bind("technologyIds", technologyIds);
+        spec = entity.getDescription() != null
+                ? spec.bind("description", entity.getDescription())
+                : spec.bindNull("description", String.class);
 
-        return capabilityReactiveRepository.save(entity)
-                .doOnNext(saved -> log.debug("Capability entity saved with id={}, capabilityName={}", saved.getId(), capability.getName()))
-                .flatMap(saved -> saveTechnologies(capability, saved.getId())
-                        .doOnSuccess(v -> log.debug("Technologies saved for capability, capabilityId={}, technologyCount={}", 
-                                saved.getId(), capability.getTechnologyIds().size()))
-                        .thenReturn(capability.toBuilder()
-                                            .id(saved.getId())
-                                            .build())
-                )
+        return spec.map((row, metadata) -> row.get("id", Long.class))
+                .one()
+                .doOnNext(id -> log.debug("Capability saved with id={}, technologyCount={}", id, technologyIds.length))
+                .map(id -> capability.toBuilder()
+                        .id(id)
+                        .build())
+                .doOnSuccess(saved -> capabilityCounter.invalidate())
+                .doOnSuccess(saved -> technologyUsageIndex.addCapability(saved.getId(), List.of(technologyIds)))
                 .doOnSuccess(saved -> log.info("Capability saved successfully, capabilityId={}, capabilityName={}", 
                         saved.getId(), saved.getName()))
                 .doOnError(error -> log.error("Error saving capability to database, capabilityName={}", capability.getName(), error));
@@ -54,6 +69,19 @@ public class CapabilityAdapter implements CapabilityRepository {
                 .doOnError(error -> log.error("Error finding capability by id={}", id, error));
     }
 
+    @Override
+    public Flux<Long> findMissingIds(List<Long> ids) {
+        List<Long> requestedIds = ids.stream()
+                .distinct()
+                .toList();
+
+        return capabilityReactiveRepository.findExistingIds(requestedIds.toArray(Long[]::new))
+                .collect(Collectors.toSet())
+                .flatMapMany(existingIds -> Flux.fromIterable(requestedIds)
+                        .filter(id -> !existingIds.contains(id)))
+                .doOnError(error -> log.error("Error resolving capability ids, idsCount={}", requestedIds.size(), error));
+    }
+
     @Override
     public Mono<Capability> findCapabilityById(Long id) {
         return capabilityReactiveRepository.findById(id)
@@ -64,33 +92,29 @@ public class CapabilityAdapter implements CapabilityRepository {
     }
 
     @Override
-    @Transactional
-    public Mono<Void> deleteById(Long id) {
+    public Mono<Boolean> deleteById(Long id) {
         log.debug("Deleting capability with id={}", id);
-        
-        // Primero eliminar las relaciones en capability_technology
-        return capabilityTechnologyReactiveRepository.findAllByCapabilityId(id)
-                .flatMap(capabilityTechnologyReactiveRepository::delete)
-                .then()
-                .then(capabilityReactiveRepository.deleteById(id))
-                .doOnSuccess(v -> log.info("Capability deleted successfully, capabilityId={}", id))
+
+        return deleteAllByIds(List.of(id))
+                .hasElements()
+                .doOnNext(deleted -> log.info("Capability delete processed, capabilityId={}, deleted={}", id, deleted))
                 .doOnError(error -> log.error("Error deleting capability with id={}", id, error));
     }
 
-    @Transactional
-    private Mono<Void> saveTechnologies(Capability capability, Long capabilityId) {
-        log.debug("Saving technologies for capability, capabilityId={}, technologyCount={}", 
-                capabilityId, capability.getTechnologyIds().size());
+    @Override
+    public Flux<Long> deleteAllByIds(List<Long> ids) {
+        Long[] requestedIds = ids.stream()
+                .distinct()
+                .toArray(Long[]::new);
 
-        return Flux.fromIterable(capabilityTechnologyR2dbcMapper.toEntityList(capability.getTechnologyIds()))
-                .map(tech -> tech.toBuilder()
-                        .capabilityId(capabilityId)
-                        .build())
-                .as(capabilityTechnologyReactiveRepository::saveAll)
-                .doOnComplete(() -> log.debug("All technologies saved for capability, capabilityId={}", capabilityId))
-                .then()
-                .doOnError(error -> log.error("Error saving technologies for capability, capabilityId={}", capabilityId, error));
+        return client.sql(sqlProvider.deleteCapabilitiesByIds())
+                .bind("ids", requestedIds)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .all()
+                .collectList()
+                .doOnNext(technologyUsageIndex::removeCapabilities)
+                .flatMapIterable(deletedIds -> deletedIds)
+                .doOnComplete(capabilityCounter::invalidate)
+                .doOnError(error -> log.error("Error deleting capabilities, idsCount={}", requestedIds.length, error));
     }
 }
-
-
@@ -2,20 +2,20 @@ package co.com.pragma.r2dbc.adapters;
 
 import co.com.pragma.model.capablity.Capability;
 import co.com.pragma.model.capablity.CapabilityAndTechnology;
-import co.com.pragma.model.capablity.gateway.CapabilityRepository;
 import co.com.pragma.model.capablity.gateway.CapabilityTechnologyRepository;
-import co.com.pragma.r2dbc.entity.CapabilityEntity;
-import co.com.pragma.r2dbc.mappers.CapabilityR2dbcMapper;
 import co.com.pragma.r2dbc.mappers.CapabilityTechnologyR2dbcMapper;
-import co.com.pragma.r2dbc.repositories.CapabilityReactiveRepository;
+import co.com.pragma.r2dbc.providers.CapabilitySQLProvider;
 import co.com.pragma.r2dbc.repositories.CapabilityTechnologyReactiveRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +23,8 @@ public class CapabilityAndTechnologyAdapter implements CapabilityTechnologyRepos
 
     private final CapabilityTechnologyReactiveRepository capabilityTechnologyReactiveRepository;
     private final CapabilityTechnologyR2dbcMapper capabilityTechnologyR2dbcMapper;
+    private final DatabaseClient databaseClient;
+    private final CapabilitySQLProvider capabilitySQLProvider;
 
     @Override
     public Flux<CapabilityAndTechnology> findTechnologyAndCapabilityById(Long id) {
@@ -33,6 +35,26 @@ public class CapabilityAndTechnologyAdapter implements CapabilityTechnologyRepos
                     return Mono.just(capabilityTechnologyR2dbcMapper.toDomain(entity));
                 });
     }
-}
 
+    @Override
+    public Flux<Capability> findCapabilitiesWithTechnologyIds(List<Long> capabilityIds) {
+        log.debug("Finding capabilities with technology IDs, capabilityIdsCount={}", capabilityIds.size());
 
+        return databaseClient.sql(capabilitySQLProvider.findCapabilitiesWithTechnologyIds())
+                .bind("ids", capabilityIds.toArray(Long[]::new))
+                .map((row, metadata) -> {
+                    Long[] technologyIds = row.get("technology_ids", Long[].class);
+                    return Capability.builder()
+                            .id(row.get("id", Long.class))
+                            .name(row.get("name", String.class))
+                            .description(row.get("description", String.class))
+                            .technologyIds(technologyIds != null ? Arrays.asList(technologyIds) : List.of())
+                            .build();
+                })
+                .all()
+                .doOnComplete(() -> log.debug("Capabilities with technology IDs retrieved, capabilityIdsCount={}",
+                        capabilityIds.size()))
+                .doOnError(error -> log.error("Error finding capabilities with technology IDs, capabilityIdsCount={}",
+                        capabilityIds.size(), error));
+    }
+}
@@ -1,51 +1,54 @@
 package co.com.pragma.r2dbc.adapters;
 
+import co.com.pragma.model.capablity.CapabilitiesFilters;
 import co.com.pragma.model.capablity.Capability;
 import co.com.pragma.model.capablity.CapabilityPage;
 import co.com.pragma.model.capablity.gateway.capabilitylist.CapabilityListRepository;
+import co.com.pragma.model.exceptions.BusinessException;
 import co.com.pragma.r2dbc.entity.CapabilityEntity;
-import co.com.pragma.r2dbc.repositories.CapabilityReactiveRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import co.com.pragma.r2dbc.providers.CapabilityListSQLProvider;
+import co.com.pragma.r2dbc.providers.CapabilitySQLProvider;
+import co.com.pragma.r2dbc.utils.KeysetCursor;
+import co.com.pragma.r2dbc.utils.TableCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 @Repository
 @Slf4j
 @RequiredArgsConstructor
 public class CapabilityListAdapter implements CapabilityListRepository {
 
+    private static final String SORT_TECHNOLOGIES = "tecnologias";
+
     private final DatabaseClient client;
-    private final ObjectMapper mapper;
-    private final CapabilityReactiveRepository capabilityReactiveRepository;
+    private final TableCounter capabilityCounter;
+    private final CapabilityListSQLProvider sqlProvider;
+    private final CapabilitySQLProvider capabilitySQLProvider;
 
     @Override
-    public Mono<CapabilityPage> findAll(int page, int size, String sort, String dir) {
-        log.debug("Finding all capabilities with pagination, page={}, size={}, sort={}, dir={}", page, size, sort, dir);
+    public Mono<CapabilityPage> findAll(int page, int size, String sort, String dir, boolean withCount) {
+        log.debug("Finding all capabilities with pagination, page={}, size={}, sort={}, dir={}, withCount={}",
+                page, size, sort, dir, withCount);
         
         String query = """
                 SELECT c.id,
                        c.name,
                        c.description,
-                       (SELECT JSON_AGG(ct2.technology_id)
+                       (SELECT ARRAY_AGG(ct2.technology_id)
                         FROM capability_technology ct2
                         WHERE c.id = ct2.capability_id) AS idstecnologies
                 FROM capability c
                 ORDER BY CASE WHEN :sortField = 'nombre' AND :direction = 'ASC' THEN c.name END ASC,
                          CASE WHEN :sortField = 'nombre' AND :direction = 'DESC' THEN c.name END DESC,
-                         CASE
-                             WHEN :sortField = 'tecnologias' AND :direction = 'ASC' THEN
-                                 (SELECT COUNT(*) FROM capability_technology ct WHERE ct.capability_id = c.id)
-                             END ASC,
-                         CASE
-                             WHEN :sortField = 'tecnologias' AND :direction = 'DESC' THEN
-                                 (SELECT COUNT(*) FROM capability_technology ct WHERE ct.capability_id = c.id)
-                             END DESC
+                         CASE WHEN :sortField = 'tecnologias' AND :direction = 'ASC' THEN c.technology_count END ASC,
+                         CASE WHEN :sortField = 'tecnologias' AND :direction = 'DESC' THEN c.technology_count END DESC
                 LIMIT :limit OFFSET :offset;
                 """;
 
@@ -54,54 +57,152 @@ public class CapabilityListAdapter implements CapabilityListRepository {
                 .bind("direction", dir.toUpperCase())
                 .bind("limit", size)
                 .bind("offset", (long) page * size)
-                .map(row -> new CapabilityEntity(
-                        row.get("id", Long.class),
-                        row.get("name", String.class),
-                        row.get("description", String.class),
-                        row.get("idstecnologies", String.class)
-                ))
+                .map(row -> CapabilityEntity.builder()
+                        .id(row.get("id", Long.class))
+                        .name(row.get("name", String.class))
+                        .description(row.get("description", String.class))
+                        .idsTechnologies(row.get("idstecnologies", Long[].class))
+                        .build())
                 .all()
                 .map(this::toDomain) // Convierte Entity a Dominio (con lista de IDs)
                 .collectList()
                 .doOnNext(capabilities -> log.debug("Retrieved {} capabilities from database", capabilities.size()))
-                .zipWith(capabilityReactiveRepository.countAll())
-                .doOnNext(tuple -> log.debug("Total capabilities count: {}", tuple.getT2()))
-                .map(t -> new CapabilityPage(t.getT1(), t.getT2()))
+                .flatMap(capabilities -> withCount
+                        ? capabilityCounter.count()
+                                .doOnNext(count -> log.debug("Total capabilities count: {}", count))
+                                .map(count -> new CapabilityPage(capabilities, count))
+                        : Mono.just(new CapabilityPage(capabilities, null)))
                 .doOnSuccess(pageData -> log.info("Successfully retrieved capabilities page, itemsCount={}, totalElements={}", 
                         pageData.getItems().size(), pageData.getTotalElements()))
                 .doOnError(error -> log.error("Error finding capabilities with pagination, page={}, size={}, sort={}, dir={}", 
                         page, size, sort, dir, error));
     }
 
-    private Capability toDomain(CapabilityEntity entity) {
-        try {
+    @Override
+    public Mono<CapabilityPage> findAllByCursor(String cursor, int size, String sort, String dir) {
+        log.debug("Finding capabilities by cursor, size={}, sort={}, dir={}", size, sort, dir);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        boolean sortByCount = SORT_TECHNOLOGIES.equals(sort);
+        String sortColumn = sortByCount
+                ? CapabilityListSQLProvider.SORT_COLUMN_TECHNOLOGY_COUNT
+                : CapabilityListSQLProvider.SORT_COLUMN_NAME;
+        String query = sqlProvider.findAllByKeyset(sortColumn, "DESC".equalsIgnoreCase(dir), after != null);
 
-            List<Long> ids = (entity.getIdsTechnologies() == null) ? List.of() :
-                    mapper.readValue(
-                            entity.getIdsTechnologies(), new TypeReference<List<Long>>() {
-                            }
-                    );
-
-            return Capability.builder()
-                    .id(entity.getId())
-                    .name(entity.getName())
-                    .description(entity.getDescription())
-                    .technologyIds(ids)
-                    .technologies(List.of())
-                    .build();
-
-        } catch (Exception e) {
-            log.warn("Error parsing technology IDs JSON for capability, capabilityId={}, error={}", 
-                    entity.getId(), e.getMessage());
-            return Capability.builder()
-                    .id(entity.getId())
-                    .name(entity.getName())
-                    .description(entity.getDescription())
-                    .technologyIds(List.of())
-                    .technologies(List.of())
-                    .build();
+        DatabaseClient.GenericExecuteSpec spec = client.sql(query)
+                .bind("limit", size + 1);
+        if (after != null) {
+            spec = spec.bind("lastSortValue", sortByCount ? parseCount(after.sortValue()) : after.sortValue())
+                    .bind("lastId", after.id());
         }
+
+        return spec.map(row -> CapabilityEntity.builder()
+                        .id(row.get("id", Long.class))
+                        .name(row.get("name", String.class))
+                        .description(row.get("description", String.class))
+                        .technologyCount(row.get("technology_count", Integer.class))
+                        .idsTechnologies(row.get("idstecnologies", Long[].class))
+                        .build())
+                .all()
+                .collectList()
+                .map(entities -> {
+                    boolean hasNext = entities.size() > size;
+                    List<CapabilityEntity> pageEntities = hasNext ? entities.subList(0, size) : entities;
+                    String nextCursor = hasNext
+                            ? toCursor(pageEntities.get(pageEntities.size() - 1), sortByCount).encode()
+                            : null;
+
+                    return CapabilityPage.builder()
+                            .items(pageEntities.stream().map(this::toDomain).toList())
+                            .nextCursor(nextCursor)
+                            .build();
+                })
+                .doOnSuccess(pageData -> log.info("Successfully retrieved capabilities cursor page, itemsCount={}, hasNext={}",
+                        pageData.getItems().size(), pageData.getNextCursor() != null))
+                .doOnError(error -> log.error("Error finding capabilities by cursor, size={}, sort={}, dir={}",
+                        size, sort, dir, error));
     }
-}
 
+    @Override
+    public Mono<CapabilityPage> findByFilters(CapabilitiesFilters filters, int page, int size) {
+        log.debug("Searching capabilities, name={}, techCount={}, page={}, size={}",
+                filters.getCapabilityName(), filters.getTechCount(), page, size);
+
+        String namePrefix = toNamePrefix(filters.getCapabilityName());
+        Integer technologyCount = filters.getTechCount();
+        boolean byName = namePrefix != null;
+        boolean byTechnologyCount = technologyCount != null;
+        boolean descending = "DESC".equalsIgnoreCase(filters.getOrderBy());
+
+        DatabaseClient.GenericExecuteSpec search = client.sql(
+                        capabilitySQLProvider.searchCapabilities(byName, byTechnologyCount, descending))
+                .bind("limit", size)
+                .bind("offset", (long) page * size);
+        DatabaseClient.GenericExecuteSpec count = client.sql(
+                capabilitySQLProvider.countSearchCapabilities(byName, byTechnologyCount));
+        if (byName) {
+            search = search.bind("namePrefix", namePrefix);
+            count = count.bind("namePrefix", namePrefix);
+        }
+        if (byTechnologyCount) {
+            search = search.bind("technologyCount", technologyCount);
+            count = count.bind("technologyCount", technologyCount);
+        }
+
+        Mono<List<Capability>> items = search.map(row -> CapabilityEntity.builder()
+                        .id(row.get("id", Long.class))
+                        .name(row.get("name", String.class))
+                        .description(row.get("description", String.class))
+                        .idsTechnologies(row.get("idstecnologies", Long[].class))
+                        .build())
+                .all()
+                .map(this::toDomain)
+                .collectList();
+        Mono<Long> total = count.map((row, metadata) -> row.get("total", Long.class))
+                .one();
+
+        return items.zipWith(total, CapabilityPage::new)
+                .doOnSuccess(pageData -> log.info("Successfully searched capabilities, itemsCount={}, totalElements={}",
+                        pageData.getItems().size(), pageData.getTotalElements()))
+                .doOnError(error -> log.error("Error searching capabilities, name={}, techCount={}, page={}, size={}",
+                        filters.getCapabilityName(), filters.getTechCount(), page, size, error));
+    }
+
+    /**
+     * Prefijo en minúsculas para el rango sobre lower(c.name); se compara literalmente, sin comodines
+     */
+    private String toNamePrefix(String capabilityName) {
+        if (capabilityName == null || capabilityName.isBlank()) {
+            return null;
+        }
+        return capabilityName.trim()
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private KeysetCursor toCursor(CapabilityEntity last, boolean sortByCount) {
+        String sortValue = sortByCount ? String.valueOf(last.getTechnologyCount()) : last.getName();
+        return new KeysetCursor(last.getId(), sortValue);
+    }
 
+    private Integer parseCount(String sortValue) {
+        try {
+            return Integer.valueOf(sortValue);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("El cursor de paginación no es válido");
+        }
+    }
+
+    private Capability toDomain(CapabilityEntity entity) {
+        List<Long> ids = entity.getIdsTechnologies() == null
+                ? List.of()
+                : Arrays.asList(entity.getIdsTechnologies());
+
+        return Capability.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .description(entity.getDescription())
+                .technologyIds(ids)
+                .technologies(List.of())
+                .build();
+    }
+}
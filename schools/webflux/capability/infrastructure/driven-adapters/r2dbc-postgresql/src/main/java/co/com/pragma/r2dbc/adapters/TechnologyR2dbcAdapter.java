@@ -1,9 +1,9 @@
 package co.com.pragma.r2dbc.adapters;
 
-import co.com.pragma.model.technology.Technology;
-import co.com.pragma.model.technology.TechnologyIds;
-import co.com.pragma.model.technology.gateway.TechnologyRepository;
+import co.com.pragma.model.technology.TechnologyUsageCount;
+import co.com.pragma.model.technology.gateway.TechnologyUsageRepository;
 import co.com.pragma.r2dbc.repositories.CapabilityTechnologyReactiveRepository;
+import co.com.pragma.r2dbc.utils.TechnologyUsageIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -12,13 +12,24 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Repository("technologyR2dbcRepository")
 @Slf4j
 @RequiredArgsConstructor
-public class TechnologyR2dbcAdapter implements TechnologyRepository {
+public class TechnologyR2dbcAdapter implements TechnologyUsageRepository {
+
+    /**
+     * El índice puede ir por detrás de las escrituras de otras réplicas. Los conteos 0 y 1 son los que
+     * autorizan eliminar una tecnología (borrado masivo y cascada), así que solo se responden desde el
+     * índice los conteos que la descartan y el resto se confirma en base de datos
+     */
+    private static final long MIN_INDEXED_USAGE_COUNT = 2L;
 
     private final CapabilityTechnologyReactiveRepository capabilityTechnologyReactiveRepository;
     private final DatabaseClient databaseClient;
+    private final TechnologyUsageIndex technologyUsageIndex;
 
     @Override
     public Flux<Long> findTechnologyIdsByCapabilityId(Long capabilityId) {
@@ -35,6 +46,47 @@ public class TechnologyR2dbcAdapter implements TechnologyRepository {
     public Mono<Long> getUsageCount(Long technologyId) {
         log.debug("Getting usage count for technologyId={}", technologyId);
 
+        return Mono.fromSupplier(() -> technologyUsageIndex.isReady() ? technologyUsageIndex.usageCount(technologyId) : 0L)
+                .filter(indexedCount -> indexedCount >= MIN_INDEXED_USAGE_COUNT)
+                .switchIfEmpty(Mono.defer(() -> countUsage(technologyId)));
+    }
+
+    @Override
+    public Flux<TechnologyUsageCount> getUsageCounts(List<Long> technologyIds) {
+        Long[] requestedIds = technologyIds.stream()
+                .distinct()
+                .toArray(Long[]::new);
+        log.debug("Getting usage counts, technologyIdsCount={}", requestedIds.length);
+
+        if (!technologyUsageIndex.isReady()) {
+            return countUsages(requestedIds);
+        }
+
+        return Flux.defer(() -> {
+            List<TechnologyUsageCount> indexedCounts = new ArrayList<>();
+            List<Long> unconfirmedIds = new ArrayList<>();
+            for (Long technologyId : requestedIds) {
+                long indexedCount = technologyUsageIndex.usageCount(technologyId);
+                if (indexedCount >= MIN_INDEXED_USAGE_COUNT) {
+                    indexedCounts.add(TechnologyUsageCount.builder()
+                            .technologyId(technologyId)
+                            .usageCount(indexedCount)
+                            .build());
+                } else {
+                    unconfirmedIds.add(technologyId);
+                }
+            }
+            log.debug("Usage counts resolved from index, indexedCount={}, unconfirmedCount={}",
+                    indexedCounts.size(), unconfirmedIds.size());
+
+            return Flux.fromIterable(indexedCounts)
+                    .concatWith(unconfirmedIds.isEmpty()
+                            ? Flux.empty()
+                            : countUsages(unconfirmedIds.toArray(Long[]::new)));
+        });
+    }
+
+    private Mono<Long> countUsage(Long technologyId) {
         String sql = """
                 SELECT COUNT(*) as usage_count
                 FROM capability_technology
@@ -50,9 +102,21 @@ public class TechnologyR2dbcAdapter implements TechnologyRepository {
                 .doOnError(error -> log.error("Error getting usage count for technologyId={}", technologyId, error));
     }
 
-    @Override
-    public Flux<Technology> findAllByIds(TechnologyIds ids) {
-        // Este método se implementa en TechnologyAdapter (rest-consumer)
-        return Flux.error(new UnsupportedOperationException("This method should be implemented by TechnologyAdapter in rest-consumer"));
+    private Flux<TechnologyUsageCount> countUsages(Long[] technologyIds) {
+        String sql = """
+                SELECT t.technology_id, COUNT(ct.capability_id) AS usage_count
+                FROM UNNEST(:technologyIds) AS t(technology_id)
+                LEFT JOIN capability_technology ct ON ct.technology_id = t.technology_id
+                GROUP BY t.technology_id
+                """;
+
+        return databaseClient.sql(sql)
+                .bind("technologyIds", technologyIds)
+                .map((row, metadata) -> TechnologyUsageCount.builder()
+                        .technologyId(row.get("technology_id", Long.class))
+                        .usageCount(row.get("usage_count", Long.class))
+                        .build())
+                .all()
+                .doOnError(error -> log.error("Error getting usage counts, technologyIdsCount={}", technologyIds.length, error));
     }
 }
@@ -0,0 +1,28 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.repositories.CapabilityReactiveRepository;
+import co.com.pragma.r2dbc.utils.CountStrategy;
+import co.com.pragma.r2dbc.utils.TableCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+@Configuration
+public class ListCountConfig {
+
+    /**
+     * Total de capacidades para GET /api/v1/capabilities
+     */
+    @Bean
+    public TableCounter capabilityCounter(
+            DatabaseClient client,
+            CapabilityReactiveRepository repository,
+            @Value("${adapter.r2dbc.count.capabilities.strategy:EXACT}") CountStrategy strategy,
+            @Value("${adapter.r2dbc.count.capabilities.ttl:30s}") Duration ttl
+    ) {
+        return new TableCounter(client, "capability", strategy, ttl, repository::countAll);
+    }
+}
@@ -0,0 +1,32 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.utils.TechnologyUsageIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+@Configuration
+public class TechnologyUsageIndexConfig {
+
+    /**
+     * Conteos de uso de tecnologías en memoria para los endpoints de TechnologyRouter
+     */
+    @Bean
+    public TechnologyUsageIndex technologyUsageIndex(
+            DatabaseClient client,
+            @Value("${adapter.r2dbc.technologyUsageIndex.enabled:true}") boolean enabled,
+            @Value("${adapter.r2dbc.technologyUsageIndex.refresh:5m}") Duration refresh
+    ) {
+        return new TechnologyUsageIndex(client, enabled, refresh);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTechnologyUsageIndex(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBean(TechnologyUsageIndex.class).start();
+    }
+}
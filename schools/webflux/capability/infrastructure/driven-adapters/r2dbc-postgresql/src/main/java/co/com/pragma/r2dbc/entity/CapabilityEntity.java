@@ -27,8 +27,11 @@ public class CapabilityEntity {
     @Column("description")
     private String description;
 
+    @Column("technology_count")
+    private Integer technologyCount;
+
     @Transient
-    private String idsTechnologies;
+    private Long[] idsTechnologies;
 }
 
 
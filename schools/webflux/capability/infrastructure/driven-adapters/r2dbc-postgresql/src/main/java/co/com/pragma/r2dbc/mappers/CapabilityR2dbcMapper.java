@@ -3,10 +3,13 @@ package co.com.pragma.r2dbc.mappers;
 import co.com.pragma.model.capablity.Capability;
 import co.com.pragma.r2dbc.entity.CapabilityEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface CapabilityR2dbcMapper {
 
+    @Mapping(target = "technologyCount",
+            expression = "java(capability.getTechnologyIds() != null ? capability.getTechnologyIds().size() : 0)")
     CapabilityEntity toEntity(Capability capability);
 
     Capability toDomain(CapabilityEntity entity);
@@ -0,0 +1,40 @@
+package co.com.pragma.r2dbc.providers;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class CapabilityListSQLProvider {
+
+    public static final String SORT_COLUMN_NAME = "c.name";
+    public static final String SORT_COLUMN_TECHNOLOGY_COUNT = "c.technology_count";
+
+    /**
+     * Query SQL para consultar una página de capacidades por keyset (valor de ordenamiento, id).
+     * Se consulta un elemento adicional (:limit = tamaño + 1) para saber si existe una página siguiente.
+     * Usa los índices (name, id) y (technology_count, id) de db/capability_keyset_pagination.sql
+     * @param sortColumn columna de ordenamiento, una de las constantes SORT_COLUMN_*
+     * @param descending true para orden descendente
+     * @param hasCursor true si se filtra a partir de :lastSortValue y :lastId
+     * @return SQL SELECT statement
+     */
+    public String findAllByKeyset(String sortColumn, boolean descending, boolean hasCursor) {
+        String direction = descending ? "DESC" : "ASC";
+        String seek = hasCursor
+                ? "WHERE (" + sortColumn + ", c.id) " + (descending ? "<" : ">") + " (:lastSortValue, :lastId)"
+                : "";
+
+        return """
+                SELECT c.id,
+                       c.name,
+                       c.description,
+                       c.technology_count,
+                       (SELECT ARRAY_AGG(ct.technology_id)
+                        FROM capability_technology ct
+                        WHERE c.id = ct.capability_id) AS idstecnologies
+                FROM capability c
+                %s
+                ORDER BY %s %s, c.id %s
+                LIMIT :limit
+                """.formatted(seek, sortColumn, direction, direction);
+    }
+}
@@ -10,66 +10,140 @@ import java.util.stream.Stream;
 @Component
 public class CapabilitySQLProvider {
 
-    private final static String FILTER_NAME = " c.name ILIKE :CAPABILITY_NAME ";
-    private final static String FILTER_COUNT = " data.cantidad = :TECH_COUNT ";
-    private final static String SELECT_COUNT = " COUNT(*)";
-    private final static String FILTER_DATA = " t.id,\n \t t.name ";
-
-    public String findByNameILikeAndCountRowSql(
-            String capabilityName,
-            Integer techCount,
-            boolean hasCount
-    ) {
+    private static final String FILTER_NAME =
+            "lower(c.name) ~>=~ :namePrefix AND lower(c.name) ~<~ (:namePrefix || chr(1114111))";
+    private static final String FILTER_TECHNOLOGY_COUNT = "c.technology_count = :technologyCount";
+
+    private static final String SEARCH_SQL = """
+            SELECT c.id,
+                   c.name,
+                   c.description,
+                   (SELECT ARRAY_AGG(ct.technology_id)
+                    FROM capability_technology ct
+                    WHERE c.id = ct.capability_id) AS idstecnologies
+            FROM capability c
+            %s
+            ORDER BY c.name %s, c.id %s
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private static final String COUNT_SQL = """
+            SELECT COUNT(*) AS total
+            FROM capability c
+            %s
+            """;
+
+    private static final String[] SEARCH_TEMPLATES = buildSearchTemplates();
+    private static final String[] COUNT_TEMPLATES = buildCountTemplates();
+
+    /**
+     * Query SQL para registrar una capacidad y sus relaciones con tecnologías en una sola sentencia.
+     * Las relaciones se insertan con UNNEST sobre el arreglo :technologyIds (bigint[])
+     * @return SQL INSERT statement
+     */
+    public String insertCapabilityWithTechnologies() {
         return """
-                SELECT
-                """ + builderSelect(hasCount) + """
-                FROM
-                	capability c
-                INNER JOIN capability_technology ct ON
-                	c.id = ct.capability_id
-                INNER JOIN technologies t ON
-                	ct.technology_id = t.id
-                INNER JOIN (
-                	SELECT
-                		ct2.capability_id ,
-                		count(*) AS cantidad
-                	FROM
-                		capability_technology ct2
-                	GROUP BY
-                		ct2.capability_id) AS DATA ON
-                		ct.capability_id = data.capability_id \s
-                """
-                + builderFilter(capabilityName, techCount) +
-                """
-                """
-                + builderLimit(!hasCount) +  """
+                WITH saved AS (
+                    INSERT INTO capability (name, description, technology_count)
+                    VALUES (:name, :description, :technologyCount)
+                    RETURNING id
+                ),
+                relations AS (
+                    INSERT INTO capability_technology (capability_id, technology_id)
+                    SELECT saved.id, t.technology_id
+                    FROM saved
+                    CROSS JOIN UNNEST(:technologyIds) AS t(technology_id)
+                )
+                SELECT id FROM saved
                 """;
     }
 
-    private String builderLimit(boolean hasLimit) {
-        if (hasLimit) {
-            return """
-                    ORDER BY t.name %s \s
-                    LIMIT :LIMIT OFFSET :OFFSET\s
-                    """;
-        }
-        return "";
+    /**
+     * Query SQL para eliminar capacidades y sus relaciones con tecnologías en una sola sentencia
+     * @return SQL DELETE statement
+     */
+    public String deleteCapabilitiesByIds() {
+        return """
+                WITH relations AS (
+                    DELETE FROM capability_technology
+                    WHERE capability_id = ANY(:ids)
+                )
+                DELETE FROM capability
+                WHERE id = ANY(:ids)
+                RETURNING id
+                """;
+    }
 
+    /**
+     * Query SQL para obtener capacidades con los IDs de sus tecnologías en una sola consulta.
+     * Los resultados conservan el orden del arreglo :ids (bigint[])
+     * @return SQL SELECT statement
+     */
+    public String findCapabilitiesWithTechnologyIds() {
+        return """
+                SELECT c.id,
+                       c.name,
+                       c.description,
+                       ARRAY_REMOVE(ARRAY_AGG(ct.technology_id ORDER BY ct.id), NULL) AS technology_ids
+                FROM capability c
+                LEFT JOIN capability_technology ct ON ct.capability_id = c.id
+                WHERE c.id = ANY(:ids)
+                GROUP BY c.id, c.name, c.description
+                ORDER BY array_position(:ids, c.id)
+                """;
+    }
+
+    /**
+     * Query SQL para buscar capacidades por prefijo de nombre y cantidad exacta de tecnologías.
+     * Las plantillas se construyen una sola vez, así cada combinación de filtros reutiliza el mismo
+     * texto SQL y su sentencia preparada. El prefijo se compara como el rango
+     * [:namePrefix, :namePrefix || U+10FFFF) con los operadores de text_pattern_ops: a diferencia de LIKE con
+     * parámetro, el rango usa el índice de db/capability_search.sql también en el plan genérico de la sentencia
+     * @param byName true si se filtra por :namePrefix
+     * @param byTechnologyCount true si se filtra por :technologyCount
+     * @param descending true para ordenar por nombre descendente
+     * @return SQL SELECT statement
+     */
+    public String searchCapabilities(boolean byName, boolean byTechnologyCount, boolean descending) {
+        return SEARCH_TEMPLATES[templateIndex(byName, byTechnologyCount) * 2 + (descending ? 1 : 0)];
+    }
+
+    /**
+     * Query SQL para contar las capacidades que cumplen los filtros de búsqueda
+     * @param byName true si se filtra por :namePrefix
+     * @param byTechnologyCount true si se filtra por :technologyCount
+     * @return SQL SELECT statement
+     */
+    public String countSearchCapabilities(boolean byName, boolean byTechnologyCount) {
+        return COUNT_TEMPLATES[templateIndex(byName, byTechnologyCount)];
+    }
+
+    private static int templateIndex(boolean byName, boolean byTechnologyCount) {
+        return (byName ? 2 : 0) + (byTechnologyCount ? 1 : 0);
     }
 
-    private String builderSelect (boolean isCount) {
-        if (isCount) {
-            return SELECT_COUNT;
-        } else {
-            return FILTER_DATA;
+    private static String[] buildSearchTemplates() {
+        String[] templates = new String[8];
+        for (int filters = 0; filters < 4; filters++) {
+            String where = buildFilter(filters >= 2, filters % 2 == 1);
+            templates[filters * 2] = SEARCH_SQL.formatted(where, "ASC", "ASC");
+            templates[filters * 2 + 1] = SEARCH_SQL.formatted(where, "DESC", "DESC");
         }
+        return templates;
     }
 
-    private String builderFilter(String capabilityName, Integer techCount) {
+    private static String[] buildCountTemplates() {
+        String[] templates = new String[4];
+        for (int filters = 0; filters < 4; filters++) {
+            templates[filters] = COUNT_SQL.formatted(buildFilter(filters >= 2, filters % 2 == 1));
+        }
+        return templates;
+    }
 
+    private static String buildFilter(boolean byName, boolean byTechnologyCount) {
         List<String> conditions = Stream.of(
-                        (capabilityName != null && !capabilityName.isEmpty()) ? FILTER_NAME : null,
-                        (techCount != null) ? FILTER_COUNT : null
+                        byName ? FILTER_NAME : null,
+                        byTechnologyCount ? FILTER_TECHNOLOGY_COUNT : null
                 )
                 .filter(Objects::nonNull)
                 .toList();
@@ -79,6 +153,6 @@ public class CapabilitySQLProvider {
         }
 
         return conditions.stream()
-                .collect(Collectors.joining(" AND ", " WHERE ", " "));
+                .collect(Collectors.joining(" AND ", "WHERE ", ""));
     }
 }
@@ -3,6 +3,7 @@ package co.com.pragma.r2dbc.repositories;
 import co.com.pragma.r2dbc.entity.CapabilityEntity;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface CapabilityReactiveRepository extends ReactiveCrudRepository<CapabilityEntity, Long> {
@@ -10,6 +11,9 @@ public interface CapabilityReactiveRepository extends ReactiveCrudRepository<Cap
 
     @Query("SELECT COUNT(*) FROM capability")
     Mono<Long> countAll();
+
+    @Query("SELECT id FROM capability WHERE id = ANY(:ids)")
+    Flux<Long> findExistingIds(Long[] ids);
 }
 
 
@@ -0,0 +1,13 @@
+package co.com.pragma.r2dbc.utils;
+
+/**
+ * Estrategia para calcular el total de elementos de un listado paginado
+ * EXACT: COUNT(*) en cada página
+ * CACHED: COUNT(*) reutilizado durante un TTL e invalidado en cada escritura
+ * ESTIMATED: estimación del planificador (pg_class.reltuples), sin recorrer la tabla
+ */
+public enum CountStrategy {
+    EXACT,
+    CACHED,
+    ESTIMATED
+}
@@ -0,0 +1,38 @@
+package co.com.pragma.r2dbc.utils;
+
+import co.com.pragma.model.exceptions.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco de paginación keyset: último (valor de ordenamiento, id) entregado al cliente,
+ * codificado en Base64 URL como "id:valor"
+ */
+public record KeysetCursor(Long id, String sortValue) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = id + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return el cursor decodificado, o null si no se recibió cursor (primera página)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(Long.parseLong(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException("El cursor de paginación no es válido");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package co.com.pragma.r2dbc.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Total de registros de una tabla para los listados paginados, según la CountStrategy configurada.
+ * La invalidación de CACHED es local a la instancia; con varias réplicas el TTL acota el desfase
+ */
+@Slf4j
+public class TableCounter {
+
+    private static final String ESTIMATE_SQL = """
+            SELECT reltuples::bigint AS estimate
+            FROM pg_class
+            WHERE oid = to_regclass(:table)
+            """;
+
+    private final DatabaseClient client;
+    private final String table;
+    private final CountStrategy strategy;
+    private final Duration ttl;
+    private final Supplier<Mono<Long>> exactCount;
+    private final AtomicReference<Mono<Long>> cachedCount = new AtomicReference<>();
+
+    public TableCounter(
+            DatabaseClient client,
+            String table,
+            CountStrategy strategy,
+            Duration ttl,
+            Supplier<Mono<Long>> exactCount
+    ) {
+        this.client = client;
+        this.table = table;
+        this.strategy = strategy;
+        this.ttl = ttl;
+        this.exactCount = exactCount;
+    }
+
+    public Mono<Long> count() {
+        return switch (strategy) {
+            case EXACT -> exactCount.get();
+            case CACHED -> cachedCount.updateAndGet(current -> current != null ? current : newCachedCount());
+            case ESTIMATED -> estimatedCount();
+        };
+    }
+
+    /**
+     * Descarta el conteo en caché; se invoca después de registrar o eliminar filas de la tabla
+     */
+    public void invalidate() {
+        cachedCount.set(null);
+    }
+
+    private Mono<Long> newCachedCount() {
+        return exactCount.get()
+                .doOnNext(count -> log.debug("Refreshed cached count, table={}, count={}", table, count))
+                .cache(count -> ttl, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * reltuples vale -1 mientras la tabla no se haya analizado; en ese caso se usa el conteo exacto
+     */
+    private Mono<Long> estimatedCount() {
+        return client.sql(ESTIMATE_SQL)
+                .bind("table", table)
+                .map((row, metadata) -> row.get("estimate", Long.class))
+                .one()
+                .filter(estimate -> estimate >= 0)
+                .switchIfEmpty(Mono.defer(exactCount));
+    }
+}
@@ -0,0 +1,172 @@
+package co.com.pragma.r2dbc.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido tecnología -> capacidades en memoria, con un bitmap comprimido por tecnología.
+ * Se construye al iniciar desde capability_technology, se actualiza en los registros y eliminaciones
+ * de capacidades de esta instancia y se reconstruye periódicamente; el intervalo acota el desfase con
+ * las escrituras de otras réplicas. Mientras no esté cargado, los conteos se resuelven en base de datos,
+ * y los conteos bajos que permitirían eliminar una tecnología siempre se confirman allí
+ */
+@Slf4j
+public class TechnologyUsageIndex {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private static final String LOAD_SQL = """
+            SELECT technology_id, capability_id
+            FROM capability_technology
+            """;
+
+    private final DatabaseClient client;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+    private Map<Long, Roaring64Bitmap> capabilitiesByTechnology;
+    private Disposable refresher;
+
+    public TechnologyUsageIndex(DatabaseClient client, boolean enabled, Duration refreshInterval) {
+        this.client = client;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Carga el índice y programa su reconstrucción periódica; sin habilitar, todos los conteos van a base de datos
+     */
+    public synchronized void start() {
+        if (!enabled || refresher != null) {
+            return;
+        }
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> load()
+                        .onErrorResume(error -> {
+                            log.error("Error loading technology usage index", error);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    public synchronized void close() {
+        if (refresher != null) {
+            refresher.dispose();
+            refresher = null;
+        }
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return capabilitiesByTechnology != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Número de capacidades que referencian la tecnología; 0 si ninguna la usa
+     */
+    public long usageCount(Long technologyId) {
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap capabilities = capabilitiesByTechnology.get(technologyId);
+            return capabilities != null ? capabilities.getLongCardinality() : 0L;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Registra las tecnologías de una capacidad recién creada
+     */
+    public void addCapability(Long capabilityId, Collection<Long> technologyIds) {
+        lock.writeLock().lock();
+        try {
+            version.incrementAndGet();
+            if (capabilitiesByTechnology == null) {
+                return;
+            }
+            technologyIds.forEach(technologyId -> capabilitiesByTechnology
+                    .computeIfAbsent(technologyId, id -> new Roaring64Bitmap())
+                    .addLong(capabilityId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quita las capacidades eliminadas de todas las tecnologías
+     */
+    public void removeCapabilities(Collection<Long> capabilityIds) {
+        if (capabilityIds.isEmpty()) {
+            return;
+        }
+        Roaring64Bitmap removed = new Roaring64Bitmap();
+        capabilityIds.forEach(removed::addLong);
+
+        lock.writeLock().lock();
+        try {
+            version.incrementAndGet();
+            if (capabilitiesByTechnology == null) {
+                return;
+            }
+            capabilitiesByTechnology.values().forEach(capabilities -> capabilities.andNot(removed));
+            capabilitiesByTechnology.values().removeIf(Roaring64Bitmap::isEmpty);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstruye el índice; si hubo escrituras durante la lectura se descarta el resultado y se reintenta
+     */
+    private Mono<Void> load() {
+        return Mono.defer(() -> {
+                    long startVersion = version.get();
+                    return client.sql(LOAD_SQL)
+                            .map((row, metadata) -> new long[]{
+                                    row.get("technology_id", Long.class),
+                                    row.get("capability_id", Long.class)
+                            })
+                            .all()
+                            .collect(HashMap<Long, Roaring64Bitmap>::new, (index, pair) -> index
+                                    .computeIfAbsent(pair[0], id -> new Roaring64Bitmap())
+                                    .addLong(pair[1]))
+                            .filter(index -> swap(index, startVersion));
+                })
+                .repeatWhenEmpty(MAX_LOAD_ATTEMPTS - 1, attempts -> attempts)
+                .doOnNext(index -> log.debug("Technology usage index loaded, technologies={}", index.size()))
+                .then();
+    }
+
+    private boolean swap(Map<Long, Roaring64Bitmap> index, long startVersion) {
+        index.values().forEach(Roaring64Bitmap::runOptimize);
+
+        lock.writeLock().lock();
+        try {
+            if (version.get() != startVersion) {
+                return false;
+            }
+            capabilitiesByTechnology = index;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
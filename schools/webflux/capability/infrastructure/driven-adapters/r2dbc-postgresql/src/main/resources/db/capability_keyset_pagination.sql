@@ -0,0 +1,11 @@
+-- Soporte para la paginación por cursor de GET /api/v1/capabilities (ver CapabilityListSQLProvider)
+
+-- Número de tecnologías de la capacidad; se asigna al registrar la capacidad (CapabilityR2dbcMapper.toEntity)
+ALTER TABLE capability ADD COLUMN IF NOT EXISTS technology_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE capability c
+SET technology_count = (SELECT COUNT(*) FROM capability_technology ct WHERE ct.capability_id = c.id);
+
+-- Índices para buscar por (valor de ordenamiento, id) en ambas direcciones
+CREATE INDEX IF NOT EXISTS idx_capability_name_id ON capability (name, id);
+CREATE INDEX IF NOT EXISTS idx_capability_technology_count_id ON capability (technology_count, id);
@@ -0,0 +1,14 @@
+
+-- Soporte para GET /api/v1/capabilities/search (ver CapabilitySQLProvider.searchCapabilities)
+
+-- Índice para el filtro por prefijo lower(c.name) ~>=~ :namePrefix AND lower(c.name) ~<~ :namePrefix || U+10FFFF;
+-- text_pattern_ops compara byte a byte, sin depender del collation de la base de datos
+CREATE INDEX IF NOT EXISTS idx_capability_lower_name_pattern ON capability (lower(name) text_pattern_ops);
+
+-- El filtro por cantidad exacta de tecnologías usa idx_capability_technology_count_id
+-- (db/capability_keyset_pagination.sql)
+
+ANALYZE capability;
+
+-- CapabilitySQLProviderPlanTest verifica con EXPLAIN (GENERIC_PLAN) que la sentencia con el prefijo como
+-- parámetro usa idx_capability_lower_name_pattern
@@ -0,0 +1,129 @@
+package co.com.pragma.r2dbc.providers;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica contra PostgreSQL que la búsqueda por prefijo usa idx_capability_lower_name_pattern con el prefijo
+ * como parámetro. EXPLAIN (GENERIC_PLAN) planifica la sentencia sin valores, igual que el plan genérico que
+ * PostgreSQL termina usando para una sentencia preparada que se ejecuta muchas veces
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("CapabilitySQLProvider plan Tests")
+class CapabilitySQLProviderPlanTest {
+
+    private static final String NAME_INDEX = "idx_capability_lower_name_pattern";
+    private static final int CAPABILITIES = 100_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DatabaseClient client;
+
+    private final CapabilitySQLProvider sqlProvider = new CapabilitySQLProvider();
+
+    @BeforeAll
+    static void setUpDatabase() throws IOException {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.builder()
+                .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+                .option(ConnectionFactoryOptions.HOST, POSTGRES.getHost())
+                .option(ConnectionFactoryOptions.PORT, POSTGRES.getFirstMappedPort())
+                .option(ConnectionFactoryOptions.DATABASE, POSTGRES.getDatabaseName())
+                .option(ConnectionFactoryOptions.USER, POSTGRES.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, POSTGRES.getPassword())
+                .build());
+        client = DatabaseClient.create(connectionFactory);
+
+        execute("""
+                CREATE TABLE capability (
+                    id          BIGSERIAL PRIMARY KEY,
+                    name        VARCHAR(50) NOT NULL,
+                    description VARCHAR(90) NOT NULL
+                )
+                """);
+        execute("""
+                CREATE TABLE capability_technology (
+                    id            BIGSERIAL PRIMARY KEY,
+                    capability_id BIGINT NOT NULL,
+                    technology_id BIGINT NOT NULL
+                )
+                """);
+        // Nombres sin correlación con el orden físico, como en un catálogo real
+        execute("""
+                INSERT INTO capability (name, description)
+                SELECT md5(i::text), 'Capability ' || i
+                FROM generate_series(1, %d) AS i
+                """.formatted(CAPABILITIES));
+        execute(script("db/capability_keyset_pagination.sql"));
+        execute(script("db/capability_search.sql"));
+    }
+
+    @Test
+    @DisplayName("Should use the lower(name) pattern index for the search with a bound prefix")
+    void shouldUseNameIndexForSearch() {
+        // Arrange
+        String sql = sqlProvider.searchCapabilities(true, false, false);
+
+        // Act
+        String plan = explainGenericPlan(sql);
+
+        // Assert
+        assertTrue(plan.contains(NAME_INDEX), plan);
+    }
+
+    @Test
+    @DisplayName("Should use the lower(name) pattern index for the count with a bound prefix")
+    void shouldUseNameIndexForCount() {
+        // Arrange
+        String sql = sqlProvider.countSearchCapabilities(true, false);
+
+        // Act
+        String plan = explainGenericPlan(sql);
+
+        // Assert
+        assertTrue(plan.contains(NAME_INDEX), plan);
+        assertTrue(plan.contains("Index Scan") || plan.contains("Index Only Scan"), plan);
+    }
+
+    /**
+     * Sustituye los parámetros con nombre por marcadores $n, como hace DatabaseClient, y obtiene el plan genérico
+     */
+    private static String explainGenericPlan(String sql) {
+        String statement = sql.replace(":namePrefix", "$1")
+                .replace(":limit", "$2")
+                .replace(":offset", "$3");
+        List<String> lines = client.sql("EXPLAIN (GENERIC_PLAN) " + statement)
+                .map((row, metadata) -> row.get(0, String.class))
+                .all()
+                .collectList()
+                .block();
+        return String.join("\n", lines);
+    }
+
+    private static void execute(String sql) {
+        client.sql(sql).then().block();
+    }
+
+    private static String script(String path) throws IOException {
+        String content = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+        return content.lines()
+                .filter(line -> !line.startsWith("--"))
+                .collect(Collectors.joining("\n"));
+    }
+}
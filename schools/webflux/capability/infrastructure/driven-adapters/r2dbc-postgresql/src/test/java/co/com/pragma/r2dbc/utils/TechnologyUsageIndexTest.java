@@ -0,0 +1,130 @@
+package co.com.pragma.r2dbc.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TechnologyUsageIndex Tests")
+class TechnologyUsageIndexTest {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofDays(1);
+    private static final Duration LOAD_TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private DatabaseClient client;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+
+    @Mock
+    private RowsFetchSpec<long[]> rows;
+
+    private TechnologyUsageIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TechnologyUsageIndex(client, true, REFRESH_INTERVAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Should count capabilities per technology and apply local registrations and deletions")
+    void shouldApplyAddAndRemoveOverLoadedIndex() throws InterruptedException {
+        // Arrange
+        stubLoad();
+        when(rows.all()).thenReturn(Flux.just(
+                new long[]{1L, 10L},
+                new long[]{1L, 11L},
+                new long[]{2L, 10L}));
+        startAndAwaitReady();
+
+        // Act
+        index.addCapability(12L, List.of(1L, 3L));
+        index.removeCapabilities(List.of(10L));
+
+        // Assert
+        assertEquals(2L, index.usageCount(1L));
+        assertEquals(0L, index.usageCount(2L));
+        assertEquals(1L, index.usageCount(3L));
+        assertEquals(0L, index.usageCount(99L));
+    }
+
+    @Test
+    @DisplayName("Should discard a rebuild that overlaps a local write and keep the retried one")
+    void shouldDiscardRebuildOverlappingLocalWrite() throws InterruptedException {
+        // Arrange
+        stubLoad();
+        when(rows.all()).thenReturn(
+                Flux.defer(() -> {
+                    index.addCapability(20L, List.of(5L));
+                    return Flux.just(new long[]{1L, 10L});
+                }),
+                Flux.just(
+                        new long[]{1L, 10L},
+                        new long[]{1L, 11L},
+                        new long[]{5L, 20L}));
+
+        // Act
+        startAndAwaitReady();
+
+        // Assert
+        verify(rows, times(2)).all();
+        assertEquals(2L, index.usageCount(1L));
+        assertEquals(1L, index.usageCount(5L));
+    }
+
+    @Test
+    @DisplayName("Should not load the index when it is disabled")
+    void shouldNotLoadWhenDisabled() {
+        // Arrange
+        index = new TechnologyUsageIndex(client, false, REFRESH_INTERVAL);
+
+        // Act
+        index.start();
+
+        // Assert
+        assertFalse(index.isReady());
+        verify(client, never()).sql(anyString());
+    }
+
+    private void stubLoad() {
+        when(client.sql(anyString())).thenReturn(executeSpec);
+        doReturn(rows).when(executeSpec).map(any(BiFunction.class));
+    }
+
+    private void startAndAwaitReady() throws InterruptedException {
+        index.start();
+        long deadline = System.nanoTime() + LOAD_TIMEOUT.toNanos();
+        while (!index.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(index.isReady());
+    }
+}
@@ -1,8 +1,10 @@
 package co.com.pragma.consumer.adapter;
 
+import co.com.pragma.consumer.util.TechnologyReplica;
 import co.com.pragma.model.technology.Technology;
 import co.com.pragma.model.technology.TechnologyIds;
 import co.com.pragma.model.technology.gateway.TechnologyRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
@@ -11,50 +13,93 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Component("technologyAdapter")
 @Primary
 @Slf4j
 public class TechnologyAdapter implements TechnologyRepository {
 
     private final WebClient webClient;
+    private final AsyncCache<Long, Technology> technologyCache;
+    private final TechnologyReplica technologyReplica;
 
-    public TechnologyAdapter(@Qualifier("technologyWebClient") WebClient webClient) {
+    public TechnologyAdapter(
+            @Qualifier("technologyWebClient") WebClient webClient,
+            @Qualifier("technologyCache") AsyncCache<Long, Technology> technologyCache,
+            TechnologyReplica technologyReplica
+    ) {
         this.webClient = webClient;
+        this.technologyCache = technologyCache;
+        this.technologyReplica = technologyReplica;
     }
 
+    /**
+     * Obtiene las tecnologías desde la réplica local; los IDs que no están en ella (o todos, mientras la réplica
+     * no esté cargada) se buscan en la caché y solo los que faltan se consultan al servicio externo, en una única llamada
+     */
     @Override
     public Flux<Technology> findAllByIds(TechnologyIds ids) {
-        log.debug("Requesting technologies from external service, technologyIdsCount={}", 
-                ids.getTechnologyIds() != null ? ids.getTechnologyIds().size() : 0);
-        
+        List<Long> technologyIds = ids.getTechnologyIds() != null
+                ? ids.getTechnologyIds().stream().filter(Objects::nonNull).distinct().toList()
+                : List.of();
+        log.debug("Requesting technologies, technologyIdsCount={}", technologyIds.size());
+
+        if (technologyIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Map<Long, Technology> replicated = technologyReplica.isReady()
+                ? technologyIds.stream()
+                        .map(technologyReplica::get)
+                        .flatMap(Optional::stream)
+                        .collect(Collectors.toMap(Technology::getId, Function.identity()))
+                : Map.of();
+        List<Long> unreplicatedIds = technologyIds.stream()
+                .filter(id -> !replicated.containsKey(id))
+                .toList();
+
+        if (unreplicatedIds.isEmpty()) {
+            log.debug("Technologies resolved from replica, technologyIdsCount={}", technologyIds.size());
+            return Flux.fromIterable(technologyIds).map(replicated::get);
+        }
+
         return Flux.deferContextual(ctx -> {
             String token = ctx.get("token"); // Lo recuperas del contexto
-            log.debug("Calling external technology service, endpoint=/api/v1/technologies/items");
-            
-            return webClient.post()
-                    .uri("/api/v1/technologies/items")
-                    .header("Authorization", token)
-                    .bodyValue(ids)
-                    .retrieve()
-                    .bodyToFlux(Technology.class)
-                    .doOnNext(tech -> log.debug("Received technology from external service, technologyId={}, technologyName={}", 
-                            tech.getId(), tech.getName()))
-                    .doOnComplete(() -> log.info("Successfully retrieved all technologies from external service, requestedCount={}", 
-                            ids.getTechnologyIds() != null ? ids.getTechnologyIds().size() : 0))
-                    .doOnError(error -> log.error("Error retrieving technologies from external service, technologyIdsCount={}", 
-                            ids.getTechnologyIds() != null ? ids.getTechnologyIds().size() : 0, error));
+
+            return Mono.fromFuture(() -> technologyCache.getAll(
+                            unreplicatedIds,
+                            (missingIds, executor) -> fetchTechnologies(new ArrayList<>(missingIds), token)
+                                    .collectMap(Technology::getId)
+                                    .toFuture()
+                    ))
+                    .flatMapMany(cached -> Flux.fromIterable(technologyIds)
+                            .filter(id -> replicated.containsKey(id) || cached.containsKey(id))
+                            .map(id -> replicated.containsKey(id) ? replicated.get(id) : cached.get(id)));
         });
     }
 
-    @Override
-    public Flux<Long> findTechnologyIdsByCapabilityId(Long capabilityId) {
-        // Este método se implementa en TechnologyR2dbcAdapter
-        return Flux.error(new UnsupportedOperationException("This method should be implemented by TechnologyR2dbcAdapter"));
-    }
+    private Flux<Technology> fetchTechnologies(List<Long> missingIds, String token) {
+        log.debug("Calling external technology service, endpoint=/api/v1/technologies/items, missingCount={}",
+                missingIds.size());
 
-    @Override
-    public Mono<Long> getUsageCount(Long technologyId) {
-        // Este método se implementa en TechnologyR2dbcAdapter
-        return Mono.error(new UnsupportedOperationException("This method should be implemented by TechnologyR2dbcAdapter"));
+        return webClient.post()
+                .uri("/api/v1/technologies/items")
+                .header("Authorization", token)
+                .bodyValue(new TechnologyIds(missingIds))
+                .retrieve()
+                .bodyToFlux(Technology.class)
+                .doOnNext(tech -> log.debug("Received technology from external service, technologyId={}, technologyName={}", 
+                        tech.getId(), tech.getName()))
+                .doOnComplete(() -> log.info("Successfully retrieved technologies from external service, requestedCount={}", 
+                        missingIds.size()))
+                .doOnError(error -> log.error("Error retrieving technologies from external service, technologyIdsCount={}", 
+                        missingIds.size(), error));
     }
 }
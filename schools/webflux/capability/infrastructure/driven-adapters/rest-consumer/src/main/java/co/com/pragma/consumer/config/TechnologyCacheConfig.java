@@ -0,0 +1,38 @@
+package co.com.pragma.consumer.config;
+
+import co.com.pragma.model.technology.Technology;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class TechnologyCacheConfig {
+
+    private static final String CACHE_NAME = "technologies";
+
+    /**
+     * Caché de tecnologías por ID; las métricas cache.gets{result=hit|miss} permiten calcular el hit ratio
+     */
+    @Bean(name = "technologyCache")
+    public AsyncCache<Long, Technology> technologyCache(
+            MeterRegistry meterRegistry,
+            @Value("${adapter.restconsumer.technologyCache.maximumSize:10000}") long maximumSize,
+            @Value("${adapter.restconsumer.technologyCache.ttl:10m}") Duration ttl
+    ) {
+        AsyncCache<Long, Technology> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+        return cache;
+    }
+
+}
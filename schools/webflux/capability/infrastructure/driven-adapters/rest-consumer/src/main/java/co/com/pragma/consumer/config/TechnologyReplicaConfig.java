@@ -0,0 +1,47 @@
+package co.com.pragma.consumer.config;
+
+import co.com.pragma.consumer.util.TechnologyReplica;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+@Configuration
+public class TechnologyReplicaConfig {
+
+    /**
+     * Réplica local del catálogo de tecnologías; expone las métricas technology.replica.size y
+     * technology.replica.version para vigilar el desfase respecto al servicio de tecnologías
+     */
+    @Bean
+    public TechnologyReplica technologyReplica(
+            @Qualifier("technologyWebClient") WebClient webClient,
+            MeterRegistry meterRegistry,
+            @Value("${adapter.restconsumer.technologyReplica.enabled:true}") boolean enabled,
+            @Value("${adapter.restconsumer.technologyReplica.token:}") String token,
+            @Value("${adapter.restconsumer.technologyReplica.batchSize:1000}") int batchSize,
+            @Value("${adapter.restconsumer.technologyReplica.refresh:30s}") Duration refresh,
+            @Value("${adapter.restconsumer.technologyReplica.maxMissedSyncs:3}") int maxMissedSyncs
+    ) {
+        TechnologyReplica replica = new TechnologyReplica(webClient, enabled, token, batchSize, refresh,
+                maxMissedSyncs);
+
+        Gauge.builder("technology.replica.size", replica, TechnologyReplica::size)
+                .register(meterRegistry);
+        Gauge.builder("technology.replica.version", replica, TechnologyReplica::version)
+                .register(meterRegistry);
+        return replica;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTechnologyReplica(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBean(TechnologyReplica.class).start();
+    }
+}
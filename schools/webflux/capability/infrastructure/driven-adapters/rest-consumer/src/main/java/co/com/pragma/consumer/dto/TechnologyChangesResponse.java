@@ -0,0 +1,32 @@
+package co.com.pragma.consumer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Respuesta de GET /api/v1/technologies/changes del servicio de tecnologías
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnologyChangesResponse {
+
+    private List<Change> changes;
+    private Long version;
+    private boolean hasMore;
+    private boolean resyncRequired;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+
+        private Long id;
+        private String name;
+        private Long version;
+        private boolean deleted;
+    }
+}
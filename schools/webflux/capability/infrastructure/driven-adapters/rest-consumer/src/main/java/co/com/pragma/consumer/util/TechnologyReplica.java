@@ -0,0 +1,176 @@
+package co.com.pragma.consumer.util;
+
+import co.com.pragma.consumer.dto.TechnologyChangesResponse;
+import co.com.pragma.model.technology.Technology;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Réplica local del catálogo de tecnologías, sincronizada de forma incremental desde el feed
+ * GET /api/v1/technologies/changes: cada consulta solo trae los cambios posteriores a la última versión aplicada.
+ * La primera sincronización lee el catálogo completo (since=0); hasta completarla la réplica no se usa.
+ * Si pasan maxMissedSyncs intervalos sin una sincronización correcta (p. ej. por un token vencido) la réplica
+ * deja de usarse hasta la siguiente, y si el servicio indica que la versión es anterior a las eliminaciones
+ * depuradas se reconstruye desde since=0. Las tecnologías registradas después de la última consulta no están
+ * en la réplica y se resuelven por HTTP
+ */
+@Slf4j
+public class TechnologyReplica {
+
+    private static final String CHANGES_PATH = "/api/v1/technologies/changes";
+
+    private final WebClient webClient;
+    private final boolean enabled;
+    private final String token;
+    private final int batchSize;
+    private final Duration refreshInterval;
+    private final long maxStalenessNanos;
+
+    private volatile Map<Long, Technology> technologies = new ConcurrentHashMap<>();
+    private volatile long version;
+    private volatile boolean ready;
+    private volatile long lastSyncedAt;
+    private Disposable refresher;
+
+    public TechnologyReplica(WebClient webClient, boolean enabled, String token, int batchSize,
+                             Duration refreshInterval, int maxMissedSyncs) {
+        this.webClient = webClient;
+        this.enabled = enabled;
+        this.token = token;
+        this.batchSize = batchSize;
+        this.refreshInterval = refreshInterval;
+        this.maxStalenessNanos = refreshInterval.multipliedBy(Math.max(maxMissedSyncs, 1)).toNanos();
+    }
+
+    /**
+     * Programa la sincronización periódica; sin habilitar o sin token de servicio, las tecnologías se consultan por HTTP
+     */
+    public synchronized void start() {
+        if (!enabled || refresher != null) {
+            return;
+        }
+        if (token == null || token.isBlank()) {
+            log.warn("Technology replica disabled, no service token configured");
+            return;
+        }
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> sync()
+                        .onErrorResume(error -> {
+                            log.error("Error syncing technology replica, version={}", version, error);
+                            if (ready && !isFresh()) {
+                                log.warn("Technology replica is stale, resolving technologies by HTTP, version={}", version);
+                            }
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    public synchronized void close() {
+        if (refresher != null) {
+            refresher.dispose();
+            refresher = null;
+        }
+    }
+
+    /**
+     * @return true si la réplica se cargó y su última sincronización correcta está dentro del desfase permitido
+     */
+    public boolean isReady() {
+        return ready && isFresh();
+    }
+
+    public Optional<Technology> get(Long id) {
+        return Optional.ofNullable(technologies.get(id));
+    }
+
+    public int size() {
+        return technologies.size();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Aplica los cambios pendientes, encadenando consultas mientras el servicio indique que hay más;
+     * si la versión quedó por detrás de las eliminaciones depuradas, reconstruye la réplica
+     */
+    private Mono<Void> sync() {
+        return fetchPages(version)
+                .concatMap(response -> response.isResyncRequired()
+                        ? resync()
+                        : Mono.<Void>fromRunnable(() -> {
+                            applyChanges(technologies, response);
+                            version = response.getVersion();
+                            log.debug("Technology replica synced, changes={}, version={}",
+                                    response.getChanges().size(), version);
+                        }))
+                .then(Mono.fromRunnable(this::markSynced));
+    }
+
+    /**
+     * Lee el catálogo completo en un mapa nuevo y lo publica al terminar, sin dejar la réplica a medio construir
+     */
+    private Mono<Void> resync() {
+        log.warn("Technology replica version is older than the purged tombstones, rebuilding, version={}", version);
+        Map<Long, Technology> rebuilt = new ConcurrentHashMap<>();
+        return fetchPages(0L)
+                .doOnNext(response -> applyChanges(rebuilt, response))
+                .last()
+                .doOnNext(response -> {
+                    technologies = rebuilt;
+                    version = response.getVersion();
+                    log.info("Technology replica rebuilt, technologies={}, version={}", rebuilt.size(), version);
+                })
+                .then();
+    }
+
+    private Flux<TechnologyChangesResponse> fetchPages(long since) {
+        return fetchChanges(since)
+                .expand(response -> response.isHasMore() && !response.isResyncRequired()
+                        ? fetchChanges(response.getVersion())
+                        : Mono.empty());
+    }
+
+    private void markSynced() {
+        lastSyncedAt = System.nanoTime();
+        if (!ready) {
+            ready = true;
+            log.info("Technology replica loaded, technologies={}, version={}", technologies.size(), version);
+        }
+    }
+
+    private boolean isFresh() {
+        return System.nanoTime() - lastSyncedAt <= maxStalenessNanos;
+    }
+
+    private Mono<TechnologyChangesResponse> fetchChanges(long since) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path(CHANGES_PATH)
+                        .queryParam("since", since)
+                        .queryParam("limit", batchSize)
+                        .build())
+                .header("Authorization", token)
+                .retrieve()
+                .bodyToMono(TechnologyChangesResponse.class);
+    }
+
+    private static void applyChanges(Map<Long, Technology> target, TechnologyChangesResponse response) {
+        response.getChanges().forEach(change -> {
+            if (change.isDeleted()) {
+                target.remove(change.getId());
+            } else {
+                target.put(change.getId(), new Technology(change.getId(), change.getName()));
+            }
+        });
+    }
+}
@@ -9,6 +9,8 @@ import co.com.pragma.validator.dto.respose.CapabilityResponseDto;
 import co.com.pragma.validator.dto.respose.CapabilityStatusResponseDto;
 import co.com.pragma.validator.dto.respose.capabilities.CapabilityResultsPageDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -160,7 +162,7 @@ public class RouterRest {
                             responses = {
                                     @ApiResponse(
                                             responseCode = "201",
-                                            description = "Capacidad registrada exitosamente. Retorna la información de la capacidad creada con su ID asignado.",
+                                            description = "Validación realizada. isExisting indica si todas las capacidades existen y missingIds lista las que no están registradas.",
                                             content = @Content(
                                                     mediaType = MediaType.APPLICATION_JSON_VALUE,
                                                     schema = @Schema(implementation = CapabilityStatusResponseDto.class)
@@ -183,10 +185,45 @@ public class RouterRest {
                                     )
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/capabilities/search",
+                    method = org.springframework.web.bind.annotation.RequestMethod.GET,
+                    beanClass = CapabilityListHandler.class,
+                    beanMethod = "searchCapabilities",
+                    operation = @Operation(
+                            operationId = "searchCapabilities",
+                            summary = "Buscar capacidades por prefijo de nombre y cantidad de tecnologías",
+                            description = "Filtra capacidades por prefijo de nombre (sin distinguir mayúsculas) y por cantidad " +
+                                    "exacta de tecnologías, con paginación. Todos los filtros son opcionales.",
+                            tags = {"capabilities"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "name", description = "Prefijo del nombre", example = "Back"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "technologies", description = "Cantidad exacta de tecnologías", example = "3"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Número de página (inicia en 0)", example = "0"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "size", description = "Tamaño de la página (1 a 100)", example = "10"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "dir", description = "Orden por nombre: asc o desc", example = "asc")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Consulta exitosa"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Error de validación en los parámetros de entrada"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "500",
+                                            description = "Error interno del servidor"
+                                    )
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> routerFunctionGets(CapabilityListHandler capabilityListHandler) {
-        return route(GET("/api/v1/capabilities"), capabilityListHandler::getAllByPageable)
+        return route(GET("/api/v1/capabilities/search"), capabilityListHandler::searchCapabilities)
+                .andRoute(GET("/api/v1/capabilities"), capabilityListHandler::getAllByPageable)
                 .andRoute(POST("/api/v1/capabilities/items"), capabilityListHandler::getListCapabilitiesIds)
                 .andRoute(POST("/api/v1/capabilities/technologies/items"), capabilityListHandler::getCapabilitiesByIds);
     }
@@ -218,9 +255,45 @@ public class RouterRest {
                                     )
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/capabilities",
+                    method = org.springframework.web.bind.annotation.RequestMethod.DELETE,
+                    beanClass = CapabilityHandler.class,
+                    beanMethod = "deleteCapabilities",
+                    operation = @Operation(
+                            operationId = "deleteCapabilities",
+                            summary = "Eliminar varias Capacidades",
+                            description = "Elimina en una sola operación las capacidades indicadas y sus relaciones con tecnologías. " +
+                                    "Los IDs que no existen se ignoran.",
+                            tags = {"capabilities"},
+                            requestBody = @RequestBody(
+                                    description = "IDs de las capacidades a eliminar",
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            schema = @Schema(implementation = CapabilityIdsRequestDto.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Capacidades eliminadas. Retorna los IDs eliminados."
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Error de validación en los datos de entrada"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "500",
+                                            description = "Error interno del servidor"
+                                    )
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> routerFunctionCapabilityOperations(CapabilityHandler capabilityHandler) {
-        return route(DELETE("/api/v1/capabilities/{id}"), capabilityHandler::deleteCapability);
+        return route(DELETE("/api/v1/capabilities/{id}"), capabilityHandler::deleteCapability)
+                .andRoute(DELETE("/api/v1/capabilities"), capabilityHandler::deleteCapabilities);
     }
 }
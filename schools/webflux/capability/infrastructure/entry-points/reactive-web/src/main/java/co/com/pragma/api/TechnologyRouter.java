@@ -1,11 +1,13 @@
 package co.com.pragma.api;
 
 import co.com.pragma.api.handler.TechnologyHandler;
+import co.com.pragma.validator.dto.request.TechnologyIdsRequestDto;
 import co.com.pragma.validator.dto.respose.TechnologyDto;
 import co.com.pragma.validator.dto.respose.TechnologyUsageCountResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.RouterOperation;
@@ -17,6 +19,7 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
 import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 
 @Configuration
@@ -86,10 +89,50 @@ public class TechnologyRouter {
                                     )
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/technologies/usage-counts",
+                    method = org.springframework.web.bind.annotation.RequestMethod.POST,
+                    beanClass = TechnologyHandler.class,
+                    beanMethod = "getTechnologyUsageCounts",
+                    operation = @Operation(
+                            operationId = "getTechnologyUsageCounts",
+                            summary = "Obtener conteo de uso de varias Tecnologías",
+                            description = "Retorna en una sola consulta cuántas capacidades usan cada una de las tecnologías indicadas. " +
+                                    "Las tecnologías que ninguna capacidad usa se retornan con conteo cero.",
+                            tags = {"technologies"},
+                            requestBody = @RequestBody(
+                                    description = "IDs de las tecnologías a consultar",
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            schema = @Schema(implementation = TechnologyIdsRequestDto.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Conteos de uso encontrados",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    schema = @Schema(implementation = TechnologyUsageCountResponseDto.class)
+                                            )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Error de validación en los datos de entrada"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "500",
+                                            description = "Error interno del servidor"
+                                    )
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> technologyRoutes(TechnologyHandler technologyHandler) {
         return route(GET("/api/v1/technologies/by-capability/{capabilityId}"), technologyHandler::getTechnologiesByCapability)
-                .andRoute(GET("/api/v1/technologies/{id}/usage-count"), technologyHandler::getTechnologyUsageCount);
+                .andRoute(GET("/api/v1/technologies/{id}/usage-count"), technologyHandler::getTechnologyUsageCount)
+                .andRoute(POST("/api/v1/technologies/usage-counts"), technologyHandler::getTechnologyUsageCounts);
     }
 }
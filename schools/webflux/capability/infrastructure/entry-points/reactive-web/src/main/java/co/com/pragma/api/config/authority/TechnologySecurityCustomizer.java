@@ -11,5 +11,6 @@ public class TechnologySecurityCustomizer implements ISecurityCustomizer {
     @Override
     public void customize(ServerHttpSecurity.AuthorizeExchangeSpec spec) {
         spec.pathMatchers(HttpMethod.POST, "/api/v1/capabilities").hasRole("ADMIN");
+        spec.pathMatchers(HttpMethod.DELETE, "/api/v1/capabilities").hasRole("ADMIN");
     }
 }
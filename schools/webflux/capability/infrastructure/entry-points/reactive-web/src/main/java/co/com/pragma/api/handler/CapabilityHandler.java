@@ -3,6 +3,7 @@ package co.com.pragma.api.handler;
 import co.com.pragma.api.util.EntryPointsUtil;
 import co.com.pragma.usecase.DeleteCapabilityUseCase;
 import co.com.pragma.usecase.RegisterCapabilityUseCase;
+import co.com.pragma.validator.dto.request.CapabilityIdsRequestDto;
 import co.com.pragma.validator.dto.request.CapabilityRequestDto;
 import co.com.pragma.validator.dto.respose.CapabilityResponseDto;
 import co.com.pragma.validator.engine.ValidatorEngine;
@@ -59,6 +60,19 @@ public class CapabilityHandler {
                         traceId, capabilityId, error));
     }
 
+    public Mono<ServerResponse> deleteCapabilities(ServerRequest request) {
+        String traceId = EntryPointsUtil.extractTraceId(request);
+        log.info("Processing bulk delete capabilities request, traceId={}", traceId);
+
+        return request.bodyToMono(CapabilityIdsRequestDto.class)
+                .doOnNext(ValidatorEngine::validate)
+                .flatMap(dto -> deleteCapabilityUseCase.executeAll(dto.getCapabilityIds()))
+                .flatMap(deletedIds -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(buildSuccessResponse(deletedIds)))
+                .doOnError(error -> log.error("Error processing bulk delete capabilities request, traceId={}", traceId, error));
+    }
+
     private Mono<ServerResponse> buildCreatedResponse(CapabilityResponseDto responseDto) {
         return ServerResponse.status(HttpStatus.CREATED)
                 .contentType(MediaType.APPLICATION_JSON)
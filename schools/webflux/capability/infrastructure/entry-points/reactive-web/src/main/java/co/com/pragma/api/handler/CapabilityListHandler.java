@@ -2,11 +2,14 @@ package co.com.pragma.api.handler;
 
 import co.com.pragma.api.util.EntryPointsUtil;
 import co.com.pragma.api.util.ResponseBuilder;
+import co.com.pragma.model.exceptions.BusinessException;
+import co.com.pragma.model.exceptions.ValidationException;
 import co.com.pragma.usecase.CapabilityPageableUseCase;
 import co.com.pragma.usecase.SearchCapabilityUseCase;
 import co.com.pragma.usecase.SearchCapabilityWithTechnologiesUseCase;
 import co.com.pragma.validator.dto.request.CapabilitiesIdsRequestDto;
 import co.com.pragma.validator.dto.request.CapabilityIdsRequestDto;
+import co.com.pragma.validator.dto.request.filters.CapabilitiesFiltersDto;
 import co.com.pragma.validator.engine.ValidatorEngine;
 import co.com.pragma.validator.mappers.CapabilityListMapper;
 import co.com.pragma.validator.mappers.CapabilityStatusMapper;
@@ -19,6 +22,8 @@ import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 import static co.com.pragma.api.util.ResponseBuilder.buildSuccessResponse;
 
 @Component
@@ -43,10 +48,17 @@ public class CapabilityListHandler {
 
         String sort = request.queryParam("sort").orElse("nombre");
         String dir = request.queryParam("dir").orElse("asc");
+        boolean withCount = !"false".equalsIgnoreCase(request.queryParam("count").orElse("true"));
+
+        Optional<String> cursor = request.queryParam("cursor");
+        if (cursor.isPresent()) {
+            return getAllByCursor(cursor.get(), size, sort, dir, token, traceId);
+        }
 
-        log.debug("Query parameters - traceId={}, page={}, size={}, sort={}, dir={}", traceId, page, size, sort, dir);
+        log.debug("Query parameters - traceId={}, page={}, size={}, sort={}, dir={}, count={}",
+                traceId, page, size, sort, dir, withCount);
 
-        return capabilityPageableUseCase.execute(page, size, sort, dir)
+        return capabilityPageableUseCase.execute(page, size, sort, dir, withCount)
                 .contextWrite(ctx -> ctx.put("token", token))
                 .doOnNext(pageData -> log.debug("Retrieved capabilities page, traceId={}, totalItems={}, totalPages={}", 
                         traceId, pageData.getItems().size(), pageData.getTotalElements()))
@@ -55,6 +67,61 @@ public class CapabilityListHandler {
                 .onErrorResume(this::handleGenericError);
     }
 
+    private Mono<ServerResponse> getAllByCursor(
+            String cursor, int size, String sort, String dir, String token, String traceId) {
+
+        log.debug("Query parameters - traceId={}, cursor={}, size={}, sort={}, dir={}", traceId, cursor, size, sort, dir);
+
+        return Mono.fromCallable(() -> {
+                    if (size < 1 || size > 100) {
+                        throw new BusinessException("El tamaño de página debe estar entre 1 y 100");
+                    }
+                    return size;
+                })
+                .flatMap(pageSize -> capabilityPageableUseCase.executeByCursor(cursor, pageSize, sort, dir))
+                .contextWrite(ctx -> ctx.put("token", token))
+                .doOnNext(pageData -> log.debug("Retrieved capabilities cursor page, traceId={}, totalItems={}, hasNext={}",
+                        traceId, pageData.getItems().size(), pageData.getNextCursor() != null))
+                .flatMap(this::buildCreatedResponse)
+                .doOnError(error -> log.error("Error processing get capabilities by cursor request, traceId={}", traceId, error))
+                .onErrorResume(error -> !(error instanceof BusinessException), this::handleGenericError);
+    }
+
+    public Mono<ServerResponse> searchCapabilities(ServerRequest request) {
+        String traceId = EntryPointsUtil.extractTraceId(request);
+        log.info("Processing search capabilities request, traceId={}", traceId);
+
+        String token = request.headers().header("Authorization").getFirst();
+
+        int page = Integer.parseInt(request.queryParam("page").orElse("0"));
+        int size = Integer.parseInt(request.queryParam("size").orElse("10"));
+
+        CapabilitiesFiltersDto filters = CapabilitiesFiltersDto.builder()
+                .capabilityName(request.queryParam("name").orElse(null))
+                .capabilityAmount(request.queryParam("technologies").map(Integer::valueOf).orElse(null))
+                .orderBy(request.queryParam("dir").orElse("asc").toUpperCase())
+                .build();
+
+        log.debug("Search parameters - traceId={}, name={}, technologies={}, page={}, size={}",
+                traceId, filters.getCapabilityName(), filters.getCapabilityAmount(), page, size);
+
+        return Mono.fromCallable(() -> {
+                    ValidatorEngine.validate(filters);
+                    if (page < 0 || size < 1 || size > 100) {
+                        throw new BusinessException("La página debe ser mayor o igual a 0 y el tamaño entre 1 y 100");
+                    }
+                    return capabilityListMapper.toFilters(filters);
+                })
+                .flatMap(domainFilters -> capabilityPageableUseCase.executeSearch(domainFilters, page, size))
+                .contextWrite(ctx -> ctx.put("token", token))
+                .flatMap(pageData -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(buildSuccessResponse(pageData)))
+                .doOnError(error -> log.error("Error processing search capabilities request, traceId={}", traceId, error))
+                .onErrorResume(error -> !(error instanceof BusinessException || error instanceof ValidationException),
+                               this::handleGenericError);
+    }
+
     public Mono<ServerResponse> getListCapabilitiesIds(ServerRequest request){
         String traceId = EntryPointsUtil.extractTraceId(request);
         log.info("Processing get capabilities IDs request, traceId={}", traceId);
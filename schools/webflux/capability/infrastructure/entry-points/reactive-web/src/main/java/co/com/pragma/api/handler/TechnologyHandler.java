@@ -3,7 +3,9 @@ package co.com.pragma.api.handler;
 import co.com.pragma.api.util.EntryPointsUtil;
 import co.com.pragma.usecase.GetTechnologiesByCapabilityUseCase;
 import co.com.pragma.usecase.GetTechnologyUsageCountUseCase;
+import co.com.pragma.validator.dto.request.TechnologyIdsRequestDto;
 import co.com.pragma.validator.dto.respose.TechnologyUsageCountResponseDto;
+import co.com.pragma.validator.engine.ValidatorEngine;
 import co.com.pragma.validator.mappers.TechnologyApiMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -61,4 +63,22 @@ public class TechnologyHandler {
                 .doOnError(error -> log.error("Error processing get technology usage count request, traceId={}, technologyId={}", 
                         traceId, technologyId, error));
     }
+
+    public Mono<ServerResponse> getTechnologyUsageCounts(ServerRequest request) {
+        String traceId = EntryPointsUtil.extractTraceId(request);
+        log.info("Processing get technology usage counts request, traceId={}", traceId);
+
+        return request.bodyToMono(TechnologyIdsRequestDto.class)
+                .doOnNext(ValidatorEngine::validate)
+                .flatMapMany(dto -> getTechnologyUsageCountUseCase.executeAll(dto.getTechnologyIds()))
+                .map(usage -> TechnologyUsageCountResponseDto.builder()
+                        .technologyId(usage.getTechnologyId())
+                        .usageCount(usage.getUsageCount())
+                        .build())
+                .collectList()
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(buildSuccessResponse(response)))
+                .doOnError(error -> log.error("Error processing get technology usage counts request, traceId={}", traceId, error));
+    }
 }
@@ -0,0 +1,29 @@
+package co.com.pragma.validator.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para consultar tecnologías por lista de IDs")
+public class TechnologyIdsRequestDto {
+
+    @Schema(
+            description = "Lista de IDs de tecnologías a consultar",
+            example = "[1, 2, 3]",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotEmpty(message = "La lista de IDs de tecnologías no puede estar vacía")
+    @Size(max = 1000, message = "No se pueden consultar más de 1000 tecnologías a la vez")
+    private List<@NotNull(message = "El id de tecnología no puede ser nulo") Long> technologyIds;
+}
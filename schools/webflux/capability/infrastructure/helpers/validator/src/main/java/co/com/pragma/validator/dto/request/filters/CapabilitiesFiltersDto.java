@@ -4,8 +4,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,23 +20,22 @@ import lombok.NoArgsConstructor;
 public class CapabilitiesFiltersDto {
 
     @Schema(
-            description = "Cantidad de tecnologías que debe tener la capacidad",
+            description = "Cantidad exacta de tecnologías que debe tener la capacidad",
             example = "3",
             minimum = "1",
-            maximum = "100",
-            required = true
+            maximum = "100"
     )
-    @NotNull(message = "La cantidad de registros es obligatoria")
-    @Min(value = 1, message = "Debe solicitar al menos 1 registro")
-    @Max(value = 100, message = "No puede solicitar más de 100 registros por página")
-    @JsonProperty("cantidadRegistros")
+    @Min(value = 1, message = "La cantidad de tecnologías debe ser mayor o igual a 1")
+    @Max(value = 100, message = "La cantidad de tecnologías debe ser menor o igual a 100")
+    @JsonProperty("cantidadTecnologias")
     private Integer capabilityAmount;
 
     @Schema(
-            description = "Nombre de la capacidad a filtrar (solo letras)",
+            description = "Prefijo del nombre de la capacidad, sin distinguir mayúsculas",
             example = "Java",
-            pattern = "^[a-zA-Z]*$"
+            maxLength = 50
     )
+    @Size(max = 50, message = "El nombre a filtrar no puede superar 50 caracteres")
     @JsonProperty("nombreCapacidad")
     private String capabilityName;
 
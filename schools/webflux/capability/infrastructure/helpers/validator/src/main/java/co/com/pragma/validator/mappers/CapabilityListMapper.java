@@ -1,11 +1,14 @@
 package co.com.pragma.validator.mappers;
 
+import co.com.pragma.model.capablity.CapabilitiesFilters;
 import co.com.pragma.model.capablity.Capability;
 import co.com.pragma.model.capablity.CapabilityIds;
 import co.com.pragma.validator.dto.request.CapabilityIdsRequestDto;
 import co.com.pragma.validator.dto.request.CapabilityRequestDto;
+import co.com.pragma.validator.dto.request.filters.CapabilitiesFiltersDto;
 import co.com.pragma.validator.dto.respose.CapabilityResponseDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface CapabilityListMapper {
@@ -13,6 +16,9 @@ public interface CapabilityListMapper {
     CapabilityIds toDomain(CapabilityIdsRequestDto request);
 
     CapabilityResponseDto toResponse(Capability technology);
+
+    @Mapping(target = "techCount", source = "capabilityAmount")
+    CapabilitiesFilters toFilters(CapabilitiesFiltersDto filters);
 }
 
 
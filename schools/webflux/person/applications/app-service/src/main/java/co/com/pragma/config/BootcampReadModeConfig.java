@@ -0,0 +1,16 @@
+package co.com.pragma.config;
+
+import co.com.pragma.model.enums.BootcampReadMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BootcampReadModeConfig {
+
+    @Bean
+    public BootcampReadMode bootcampReadMode(
+            @Value("${adapter.restconsumer.bootcamp.readMode:LOCAL}") BootcampReadMode bootcampReadMode) {
+        return bootcampReadMode;
+    }
+}
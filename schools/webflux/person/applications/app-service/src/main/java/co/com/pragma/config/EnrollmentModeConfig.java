@@ -0,0 +1,16 @@
+package co.com.pragma.config;
+
+import co.com.pragma.model.enums.EnrollmentMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EnrollmentModeConfig {
+
+    @Bean
+    public EnrollmentMode enrollmentMode(
+            @Value("${adapter.r2dbc.enrollmentMode:APPLICATION}") EnrollmentMode enrollmentMode) {
+        return enrollmentMode;
+    }
+}
@@ -0,0 +1,11 @@
+package co.com.pragma.model.enums;
+
+/**
+ * Origen de los datos de bootcamp (fecha de lanzamiento y duración) usados en las validaciones
+ * LOCAL: tabla bootcamp de la base de datos de personas, en una sola consulta
+ * REMOTE: servicio de bootcamps, una llamada HTTP para todos los bootcamps de la persona
+ */
+public enum BootcampReadMode {
+    LOCAL,
+    REMOTE
+}
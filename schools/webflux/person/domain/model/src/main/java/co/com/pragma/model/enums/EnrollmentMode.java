@@ -0,0 +1,12 @@
+package co.com.pragma.model.enums;
+
+/**
+ * Estrategia para validar y registrar una inscripción
+ * APPLICATION: lee las inscripciones de la persona, valida en la aplicación y luego inserta
+ * DATABASE: una sola sentencia atómica; el límite de bootcamps y el solapamiento de fechas
+ * los garantiza la base de datos (contador en person y restricción de exclusión en person_bootcamp)
+ */
+public enum EnrollmentMode {
+    APPLICATION,
+    DATABASE
+}
@@ -0,0 +1,12 @@
+package co.com.pragma.model.exceptions;
+
+/**
+ * La base de datos rechazó la inscripción por solapamiento de fechas o inscripción duplicada
+ */
+public class EnrollmentConflictException extends RuntimeException {
+
+    public EnrollmentConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
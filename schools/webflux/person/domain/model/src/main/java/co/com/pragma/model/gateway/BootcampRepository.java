@@ -1,9 +1,17 @@
 package co.com.pragma.model.gateway;
 
 import co.com.pragma.model.Bootcamp;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface BootcampRepository {
 
     Mono<Bootcamp> findById(Long id);
+
+    /**
+     * Obtiene varios bootcamps en una sola llamada; los IDs que no existen se omiten
+     */
+    Flux<Bootcamp> findAllByIds(List<Long> ids);
 }
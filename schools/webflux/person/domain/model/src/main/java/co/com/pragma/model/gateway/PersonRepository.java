@@ -1,5 +1,6 @@
 package co.com.pragma.model.gateway;
 
+import co.com.pragma.model.Bootcamp;
 import co.com.pragma.model.Person;
 import co.com.pragma.model.PersonBootcamp;
 import reactor.core.publisher.Flux;
@@ -11,6 +12,17 @@ public interface PersonRepository {
 
     Mono<PersonBootcamp> enrollPersonInBootcamp(Long personId, Long bootcampId);
 
+    /**
+     * Inscribe a una persona en un bootcamp en una sola sentencia atómica: reserva un cupo solo si la
+     * persona tiene menos de maxBootcamps inscripciones y la restricción de exclusión rechaza fechas solapadas
+     * @param personId ID de la persona
+     * @param bootcampId ID del bootcamp
+     * @param maxBootcamps número máximo de bootcamps por persona
+     * @return Mono con la inscripción, vacío si se alcanzó el límite o el bootcamp no existe, o
+     * EnrollmentConflictException si las fechas se solapan o la inscripción ya existe
+     */
+    Mono<PersonBootcamp> enrollPersonInBootcampAtomically(Long personId, Long bootcampId, int maxBootcamps);
+
     Flux<PersonBootcamp> findEnrollmentsByPersonId(Long personId);
 
     /**
@@ -20,6 +32,21 @@ public interface PersonRepository {
      */
     Flux<Long> findBootcampIdsByPersonId(Long personId);
 
+    /**
+     * Obtiene los bootcamps (con fecha de lanzamiento y duración) en los que está inscrita una persona
+     * usando la tabla local de bootcamps en una sola consulta
+     * @param personId ID de la persona
+     * @return Flux con los bootcamps de la persona
+     */
+    Flux<Bootcamp> findBootcampsByPersonId(Long personId);
+
+    /**
+     * Obtiene un bootcamp desde la tabla local de bootcamps
+     * @param bootcampId ID del bootcamp
+     * @return Mono con el bootcamp o vacío si no existe
+     */
+    Mono<Bootcamp> findBootcampById(Long bootcampId);
+
     /**
      * Cuenta el número de bootcamps en los que está inscrita una persona
      * @param personId ID de la persona
@@ -2,11 +2,15 @@ package co.com.pragma.usecase;
 
 import co.com.pragma.model.Bootcamp;
 import co.com.pragma.model.PersonBootcamp;
+import co.com.pragma.model.enums.BootcampReadMode;
+import co.com.pragma.model.enums.EnrollmentMode;
 import co.com.pragma.model.exceptions.BusinessException;
+import co.com.pragma.model.exceptions.EnrollmentConflictException;
 import co.com.pragma.model.gateway.BootcampRepository;
 import co.com.pragma.model.gateway.PersonRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
 
@@ -21,6 +25,8 @@ public class EnrollPersonInBootcampUseCase {
 
     private final PersonRepository personRepository;
     private final BootcampRepository bootcampRepository;
+    private final BootcampReadMode bootcampReadMode;
+    private final EnrollmentMode enrollmentMode;
 
     public Mono<PersonBootcamp> execute(Long personId, Long bootcampId, String traceId) {
 
@@ -28,14 +34,12 @@ public class EnrollPersonInBootcampUseCase {
 
         return personRepository.findById(personId)
                 .switchIfEmpty(Mono.error(new BusinessException("La persona no existe")))
-                .flatMap(person -> bootcampRepository.findById(bootcampId)
-                        .contextWrite(Context.of("traceId", traceId))
+                .flatMap(person -> findBootcamp(bootcampId, traceId)
                         .switchIfEmpty(Mono.error(new BusinessException("El bootcamp no existe")))
-                        .flatMap(newBootcamp -> validateEnrollment(personId, newBootcamp, traceId)
-                                .then(personRepository.enrollPersonInBootcamp(personId, bootcampId)
-                                              .flatMap(personBootcamp -> Mono.just(personBootcamp.toBuilder()
-                                                                                           .bootcamp(newBootcamp)
-                                                                                           .build()))))
+                        .flatMap(newBootcamp -> enroll(personId, newBootcamp, traceId)
+                                .flatMap(personBootcamp -> Mono.just(personBootcamp.toBuilder()
+                                                                             .bootcamp(newBootcamp)
+                                                                             .build())))
                         .doOnSuccess(result -> log.info(String.format(
                                 "Successfully enrolled person %d in bootcamp %d, traceId: %s",
                                 personId, bootcampId, traceId
@@ -46,6 +50,27 @@ public class EnrollPersonInBootcampUseCase {
                         ))));
     }
 
+    private Mono<PersonBootcamp> enroll(Long personId, Bootcamp newBootcamp, String traceId) {
+        if (enrollmentMode == EnrollmentMode.DATABASE) {
+            return enrollAtomically(personId, newBootcamp, traceId);
+        }
+        return validateEnrollment(personId, newBootcamp, traceId)
+                .then(personRepository.enrollPersonInBootcamp(personId, newBootcamp.getId()));
+    }
+
+    private Mono<PersonBootcamp> enrollAtomically(Long personId, Bootcamp newBootcamp, String traceId) {
+        // Límite y solapamiento los garantiza la base de datos; solo se consulta el detalle si la inscripción falla
+        return personRepository.enrollPersonInBootcampAtomically(personId, newBootcamp.getId(), MAX_BOOTCAMPS)
+                .switchIfEmpty(Mono.defer(() -> personRepository.findBootcampById(newBootcamp.getId())
+                        .switchIfEmpty(Mono.error(new BusinessException("El bootcamp no existe")))
+                        .flatMap(bootcamp -> Mono.<PersonBootcamp>error(maxBootcampsException()))))
+                .onErrorResume(EnrollmentConflictException.class, conflict -> validateEnrollment(
+                        personId, newBootcamp, traceId)
+                        .then(Mono.<PersonBootcamp>error(new BusinessException(
+                                "El bootcamp '" + newBootcamp.getName() + "' se solapa con otro bootcamp de la persona"
+                        ))));
+    }
+
     private Mono<Void> validateEnrollment(Long personId, Bootcamp newBootcamp, String traceId) {
 
         log.info(
@@ -57,10 +82,7 @@ public class EnrollPersonInBootcampUseCase {
         LocalDate newStart = newBootcamp.getLaunchDate();
         LocalDate newEnd = newStart.plusMonths(newBootcamp.getDurationMonths());
 
-        // Obtener IDs de bootcamps desde BD y luego obtener cada bootcamp de la API externa
-        return personRepository.findBootcampIdsByPersonId(personId)
-                .flatMap(bootcampId -> bootcampRepository.findById(bootcampId)
-                        .contextWrite(Context.of("traceId", traceId)))
+        return findEnrolledBootcamps(personId, traceId)
                 .collectList()
                 .flatMap(existing -> {
 
@@ -72,6 +94,28 @@ public class EnrollPersonInBootcampUseCase {
                 });
     }
 
+    private Mono<Bootcamp> findBootcamp(Long bootcampId, String traceId) {
+        if (bootcampReadMode == BootcampReadMode.LOCAL) {
+            return personRepository.findBootcampById(bootcampId);
+        }
+        return bootcampRepository.findById(bootcampId)
+                .contextWrite(Context.of("traceId", traceId));
+    }
+
+    private Flux<Bootcamp> findEnrolledBootcamps(Long personId, String traceId) {
+        if (bootcampReadMode == BootcampReadMode.LOCAL) {
+            // Fechas y duraciones desde la tabla local de bootcamps en una sola consulta
+            return personRepository.findBootcampsByPersonId(personId);
+        }
+        // Obtener IDs de bootcamps desde BD y luego todos los bootcamps en una sola llamada a la API externa
+        return personRepository.findBootcampIdsByPersonId(personId)
+                .collectList()
+                .flatMapMany(bootcampIds -> bootcampIds.isEmpty()
+                        ? Flux.<Bootcamp>empty()
+                        : bootcampRepository.findAllByIds(bootcampIds)
+                                .contextWrite(Context.of("traceId", traceId)));
+    }
+
     private void validateNotAlreadyEnrolled(List<Bootcamp> existing, Bootcamp newBootcamp) {
         if (existing.stream().anyMatch(b -> b.getId().equals(newBootcamp.getId()))) {
             throw new BusinessException("La persona ya está inscrita en el bootcamp '" + newBootcamp.getName() + "'");
@@ -80,12 +124,14 @@ public class EnrollPersonInBootcampUseCase {
 
     private void validateMaxBootcamps(List<Bootcamp> existing) {
         if (existing.size() >= MAX_BOOTCAMPS) {
-            throw new BusinessException(
-                    "No se puede inscribir en más de " + MAX_BOOTCAMPS + " bootcamps simultáneamente"
-            );
+            throw maxBootcampsException();
         }
     }
 
+    private BusinessException maxBootcampsException() {
+        return new BusinessException("No se puede inscribir en más de " + MAX_BOOTCAMPS + " bootcamps simultáneamente");
+    }
+
     private void validateNoDateOverlap(
             List<Bootcamp> existing,
             Bootcamp newBootcamp,
@@ -1,6 +1,8 @@
 package co.com.pragma.usecase;
 
+import co.com.pragma.model.Bootcamp;
 import co.com.pragma.model.Person;
+import co.com.pragma.model.enums.BootcampReadMode;
 import co.com.pragma.model.exceptions.BusinessException;
 import co.com.pragma.model.gateway.BootcampRepository;
 import co.com.pragma.model.gateway.PersonRepository;
@@ -16,12 +18,12 @@ public class GetPeopleByBootcampUseCase {
 
     private final PersonRepository personRepository;
     private final BootcampRepository bootcampRepository;
+    private final BootcampReadMode bootcampReadMode;
 
     public Flux<Person> execute(Long bootcampId, String traceId) {
         log.info(String.format("Getting people enrolled in bootcamp %d, traceId: %s", bootcampId, traceId));
 
-        return bootcampRepository.findById(bootcampId)
-                .contextWrite(Context.of("traceId", traceId))
+        return findBootcamp(bootcampId, traceId)
                 .switchIfEmpty(Mono.error(new BusinessException("El bootcamp no existe")))
                 .thenMany(personRepository.findPeopleByBootcampId(bootcampId))
                 .doOnComplete(() -> log.info(String.format(
@@ -33,4 +35,12 @@ public class GetPeopleByBootcampUseCase {
                         bootcampId, traceId, error.getMessage()
                 )));
     }
+
+    private Mono<Bootcamp> findBootcamp(Long bootcampId, String traceId) {
+        if (bootcampReadMode == BootcampReadMode.LOCAL) {
+            return personRepository.findBootcampById(bootcampId);
+        }
+        return bootcampRepository.findById(bootcampId)
+                .contextWrite(Context.of("traceId", traceId));
+    }
 }
@@ -3,13 +3,16 @@ package co.com.pragma.usecase;
 import co.com.pragma.model.Bootcamp;
 import co.com.pragma.model.Person;
 import co.com.pragma.model.PersonBootcamp;
+import co.com.pragma.model.enums.BootcampReadMode;
+import co.com.pragma.model.enums.EnrollmentMode;
 import co.com.pragma.model.exceptions.BusinessException;
+import co.com.pragma.model.exceptions.EnrollmentConflictException;
 import co.com.pragma.model.gateway.BootcampRepository;
 import co.com.pragma.model.gateway.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
@@ -18,7 +21,10 @@ import reactor.test.StepVerifier;
 import reactor.util.context.Context;
 
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -31,13 +37,18 @@ class EnrollPersonInBootcampUseCaseTest {
     @Mock
     private BootcampRepository bootcampRepository;
 
-    @InjectMocks
     private EnrollPersonInBootcampUseCase useCase;
 
     private final String traceId = "trace-enroll-123";
     private final Long personId = 1L;
     private final Long bootcampId = 2L;
 
+    @BeforeEach
+    void setUp() {
+        useCase = new EnrollPersonInBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.REMOTE,
+                                                    EnrollmentMode.APPLICATION);
+    }
+
     @Test
     @DisplayName("Should enroll person successfully when all validations pass")
     void executeSuccess() {
@@ -84,12 +95,9 @@ class EnrollPersonInBootcampUseCaseTest {
         // Simular que ya tiene 5 bootcamps (IDs)
         when(personRepository.findBootcampIdsByPersonId(personId)).thenReturn(Flux.just(10L, 11L, 12L, 13L, 14L));
 
-        // Mock de findById para cada uno de los 5 bootcamps existentes
-        when(bootcampRepository.findById(10L)).thenReturn(Mono.just(existingBootcamp1).contextWrite(Context.of("traceId", traceId)));
-        when(bootcampRepository.findById(11L)).thenReturn(Mono.just(existingBootcamp2).contextWrite(Context.of("traceId", traceId)));
-        when(bootcampRepository.findById(12L)).thenReturn(Mono.just(existingBootcamp3).contextWrite(Context.of("traceId", traceId)));
-        when(bootcampRepository.findById(13L)).thenReturn(Mono.just(existingBootcamp4).contextWrite(Context.of("traceId", traceId)));
-        when(bootcampRepository.findById(14L)).thenReturn(Mono.just(existingBootcamp5).contextWrite(Context.of("traceId", traceId)));
+        // Los 5 bootcamps existentes se obtienen en una sola llamada
+        when(bootcampRepository.findAllByIds(List.of(10L, 11L, 12L, 13L, 14L))).thenReturn(Flux.just(
+                existingBootcamp1, existingBootcamp2, existingBootcamp3, existingBootcamp4, existingBootcamp5));
 
         // Mock enrollPersonInBootcamp para evitar NPE (aunque la validación debería fallar antes)
         when(personRepository.enrollPersonInBootcamp(anyLong(), anyLong()))
@@ -100,6 +108,10 @@ class EnrollPersonInBootcampUseCaseTest {
                 .expectErrorMatches(throwable -> throwable instanceof BusinessException &&
                         throwable.getMessage().contains("más de 5 bootcamps"))
                 .verify();
+
+        // Una sola llamada al servicio de bootcamps para las inscripciones existentes
+        verify(bootcampRepository, times(1)).findAllByIds(anyList());
+        verify(bootcampRepository, times(1)).findById(anyLong());
     }
 
     @Test
@@ -126,7 +138,7 @@ class EnrollPersonInBootcampUseCaseTest {
         when(personRepository.findById(personId)).thenReturn(Mono.just(new Person()));
         when(bootcampRepository.findById(bootcampId)).thenReturn(Mono.just(newBootcamp).contextWrite(Context.of("traceId", traceId)));
         when(personRepository.findBootcampIdsByPersonId(personId)).thenReturn(Flux.just(99L));
-        when(bootcampRepository.findById(99L)).thenReturn(Mono.just(existingBootcamp).contextWrite(Context.of("traceId", traceId)));
+        when(bootcampRepository.findAllByIds(List.of(99L))).thenReturn(Flux.just(existingBootcamp));
 
         // Mock enrollPersonInBootcamp para evitar NPE (aunque la validación debería fallar antes)
         when(personRepository.enrollPersonInBootcamp(anyLong(), anyLong()))
@@ -138,4 +150,173 @@ class EnrollPersonInBootcampUseCaseTest {
                         throwable.getMessage().contains("se solapa"))
                 .verify();
     }
+
+    @Test
+    @DisplayName("Should enroll person using local bootcamp data without calling the bootcamp service")
+    void executeLocalReadModeSuccess() {
+        // Arrange
+        useCase = new EnrollPersonInBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.LOCAL,
+                                                    EnrollmentMode.APPLICATION);
+        LocalDate today = LocalDate.now();
+        Bootcamp newBootcamp = Bootcamp.builder()
+                .id(bootcampId).name("Java").launchDate(today.plusMonths(6)).durationMonths(3).build();
+        Bootcamp existingBootcamp = Bootcamp.builder()
+                .id(99L).name("Existing").launchDate(today).durationMonths(2).build();
+
+        when(personRepository.findById(personId)).thenReturn(Mono.just(new Person()));
+        when(personRepository.findBootcampById(bootcampId)).thenReturn(Mono.just(newBootcamp));
+        when(personRepository.findBootcampsByPersonId(personId)).thenReturn(Flux.just(existingBootcamp));
+        when(personRepository.enrollPersonInBootcamp(personId, bootcampId))
+                .thenReturn(Mono.just(PersonBootcamp.builder().build()));
+
+        // Act & Assert
+        StepVerifier.create(useCase.execute(personId, bootcampId, traceId))
+                .assertNext(pb -> {
+                    assert pb.getBootcamp().getName().equals("Java");
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(bootcampRepository);
+        verify(personRepository, never()).findBootcampIdsByPersonId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw BusinessException when dates overlap using local bootcamp data")
+    void executeLocalReadModeDateOverlapError() {
+        // Arrange
+        useCase = new EnrollPersonInBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.LOCAL,
+                                                    EnrollmentMode.APPLICATION);
+        LocalDate today = LocalDate.now();
+        Bootcamp newBootcamp = Bootcamp.builder()
+                .id(bootcampId).name("New").launchDate(today).durationMonths(3).build();
+        Bootcamp existingBootcamp = Bootcamp.builder()
+                .id(99L).name("Existing").launchDate(today.plusMonths(1)).durationMonths(3).build();
+
+        when(personRepository.findById(personId)).thenReturn(Mono.just(new Person()));
+        when(personRepository.findBootcampById(bootcampId)).thenReturn(Mono.just(newBootcamp));
+        when(personRepository.findBootcampsByPersonId(personId)).thenReturn(Flux.just(existingBootcamp));
+        when(personRepository.enrollPersonInBootcamp(anyLong(), anyLong()))
+                .thenReturn(Mono.just(PersonBootcamp.builder().build()));
+
+        // Act & Assert
+        StepVerifier.create(useCase.execute(personId, bootcampId, traceId))
+                .expectErrorMatches(throwable -> throwable instanceof BusinessException &&
+                        throwable.getMessage().contains("se solapa"))
+                .verify();
+
+        verifyNoInteractions(bootcampRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw BusinessException when bootcamp does not exist in local table")
+    void executeLocalReadModeBootcampNotFound() {
+        // Arrange
+        useCase = new EnrollPersonInBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.LOCAL,
+                                                    EnrollmentMode.APPLICATION);
+
+        when(personRepository.findById(personId)).thenReturn(Mono.just(new Person()));
+        when(personRepository.findBootcampById(bootcampId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.execute(personId, bootcampId, traceId))
+                .expectErrorMatches(throwable -> throwable instanceof BusinessException &&
+                        throwable.getMessage().equals("El bootcamp no existe"))
+                .verify();
+
+        verifyNoInteractions(bootcampRepository);
+    }
+
+    @Test
+    @DisplayName("Should enroll person in a single atomic statement without reading existing enrollments")
+    void executeDatabaseModeSuccess() {
+        // Arrange
+        useCase = new EnrollPersonInBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.LOCAL,
+                                                    EnrollmentMode.DATABASE);
+        Bootcamp newBootcamp = Bootcamp.builder()
+                .id(bootcampId).name("Java").launchDate(LocalDate.now().plusDays(10)).durationMonths(3).build();
+
+        when(personRepository.findById(personId)).thenReturn(Mono.just(new Person()));
+        when(personRepository.findBootcampById(bootcampId)).thenReturn(Mono.just(newBootcamp));
+        when(personRepository.enrollPersonInBootcampAtomically(personId, bootcampId, 5))
+                .thenReturn(Mono.just(PersonBootcamp.builder().personId(personId).bootcampId(bootcampId).build()));
+
+        // Act & Assert
+        StepVerifier.create(useCase.execute(personId, bootcampId, traceId))
+                .assertNext(pb -> {
+                    assert pb.getBootcamp().getName().equals("Java");
+                })
+                .verifyComplete();
+
+        verify(personRepository, never()).findBootcampsByPersonId(anyLong());
+        verify(personRepository, never()).enrollPersonInBootcamp(anyLong(), anyLong());
+        verifyNoInteractions(bootcampRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw BusinessException when the atomic statement finds no free slot")
+    void executeDatabaseModeMaxBootcampsError() {
+        // Arrange
+        useCase = new EnrollPersonInBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.LOCAL,
+                                                    EnrollmentMode.DATABASE);
+        Bootcamp newBootcamp = Bootcamp.builder()
+                .id(bootcampId).name("Java").launchDate(LocalDate.now().plusDays(10)).durationMonths(3).build();
+
+        when(personRepository.findById(personId)).thenReturn(Mono.just(new Person()));
+        when(personRepository.findBootcampById(bootcampId)).thenReturn(Mono.just(newBootcamp));
+        when(personRepository.enrollPersonInBootcampAtomically(anyLong(), anyLong(), anyInt()))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.execute(personId, bootcampId, traceId))
+                .expectErrorMatches(throwable -> throwable instanceof BusinessException &&
+                        throwable.getMessage().contains("más de 5 bootcamps"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should map the exclusion constraint violation to the overlap BusinessException")
+    void executeDatabaseModeDateOverlapError() {
+        // Arrange
+        useCase = new EnrollPersonInBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.LOCAL,
+                                                    EnrollmentMode.DATABASE);
+        LocalDate today = LocalDate.now();
+        Bootcamp newBootcamp = Bootcamp.builder()
+                .id(bootcampId).name("New").launchDate(today).durationMonths(3).build();
+        Bootcamp existingBootcamp = Bootcamp.builder()
+                .id(99L).name("Existing").launchDate(today.plusMonths(1)).durationMonths(3).build();
+
+        when(personRepository.findById(personId)).thenReturn(Mono.just(new Person()));
+        when(personRepository.findBootcampById(bootcampId)).thenReturn(Mono.just(newBootcamp));
+        when(personRepository.enrollPersonInBootcampAtomically(anyLong(), anyLong(), anyInt()))
+                .thenReturn(Mono.error(new EnrollmentConflictException("Conflicto de inscripción", null)));
+        when(personRepository.findBootcampsByPersonId(personId)).thenReturn(Flux.just(existingBootcamp));
+
+        // Act & Assert
+        StepVerifier.create(useCase.execute(personId, bootcampId, traceId))
+                .expectErrorMatches(throwable -> throwable instanceof BusinessException &&
+                        throwable.getMessage().equals("El bootcamp 'New' se solapa con el bootcamp 'Existing'"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should map the exclusion constraint violation to the already enrolled BusinessException")
+    void executeDatabaseModeAlreadyEnrolledError() {
+        // Arrange
+        useCase = new EnrollPersonInBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.LOCAL,
+                                                    EnrollmentMode.DATABASE);
+        Bootcamp newBootcamp = Bootcamp.builder()
+                .id(bootcampId).name("Java").launchDate(LocalDate.now()).durationMonths(3).build();
+
+        when(personRepository.findById(personId)).thenReturn(Mono.just(new Person()));
+        when(personRepository.findBootcampById(bootcampId)).thenReturn(Mono.just(newBootcamp));
+        when(personRepository.enrollPersonInBootcampAtomically(anyLong(), anyLong(), anyInt()))
+                .thenReturn(Mono.error(new EnrollmentConflictException("Conflicto de inscripción", null)));
+        when(personRepository.findBootcampsByPersonId(personId)).thenReturn(Flux.just(newBootcamp));
+
+        // Act & Assert
+        StepVerifier.create(useCase.execute(personId, bootcampId, traceId))
+                .expectErrorMatches(throwable -> throwable instanceof BusinessException &&
+                        throwable.getMessage().contains("ya está inscrita"))
+                .verify();
+    }
 }
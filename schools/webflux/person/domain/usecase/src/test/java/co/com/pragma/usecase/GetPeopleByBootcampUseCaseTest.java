@@ -2,13 +2,13 @@ package co.com.pragma.usecase;
 
 import co.com.pragma.model.Bootcamp;
 import co.com.pragma.model.Person;
+import co.com.pragma.model.enums.BootcampReadMode;
 import co.com.pragma.model.exceptions.BusinessException;
 import co.com.pragma.model.gateway.BootcampRepository;
 import co.com.pragma.model.gateway.PersonRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
@@ -19,6 +19,7 @@ import reactor.util.context.Context;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +31,6 @@ class GetPeopleByBootcampUseCaseTest {
     @Mock
     private BootcampRepository bootcampRepository;
 
-    @InjectMocks
     private GetPeopleByBootcampUseCase useCase;
 
     private Bootcamp bootcamp;
@@ -43,6 +43,7 @@ class GetPeopleByBootcampUseCaseTest {
     void setUp() {
         bootcampId = 1L;
         traceId = "test-trace-id";
+        useCase = new GetPeopleByBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.REMOTE);
 
         bootcamp = Bootcamp.builder()
                 .id(bootcampId)
@@ -128,4 +129,33 @@ class GetPeopleByBootcampUseCaseTest {
                         && error.getMessage().equals("Person repository error"))
                 .verify();
     }
+
+    @Test
+    void execute_WhenLocalReadModeAndBootcampExists_ShouldReturnPeopleWithoutRemoteCall() {
+        // Arrange
+        useCase = new GetPeopleByBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.LOCAL);
+        when(personRepository.findBootcampById(bootcampId)).thenReturn(Mono.just(bootcamp));
+        when(personRepository.findPeopleByBootcampId(bootcampId)).thenReturn(Flux.just(person1, person2));
+
+        // Act & Assert
+        StepVerifier.create(useCase.execute(bootcampId, traceId))
+                .expectNext(person1)
+                .expectNext(person2)
+                .verifyComplete();
+
+        verifyNoInteractions(bootcampRepository);
+    }
+
+    @Test
+    void execute_WhenLocalReadModeAndBootcampDoesNotExist_ShouldReturnError() {
+        // Arrange
+        useCase = new GetPeopleByBootcampUseCase(personRepository, bootcampRepository, BootcampReadMode.LOCAL);
+        when(personRepository.findBootcampById(bootcampId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.execute(bootcampId, traceId))
+                .expectErrorMatches(error -> error instanceof BusinessException
+                        && error.getMessage().equals("El bootcamp no existe"))
+                .verify();
+    }
 }
@@ -1,12 +1,17 @@
 package co.com.pragma.r2dbc.adapters;
 
+import co.com.pragma.model.Bootcamp;
 import co.com.pragma.model.Person;
 import co.com.pragma.model.PersonBootcamp;
+import co.com.pragma.model.exceptions.EnrollmentConflictException;
 import co.com.pragma.model.gateway.PersonRepository;
+import co.com.pragma.r2dbc.entity.BootcampEntity;
 import co.com.pragma.r2dbc.entity.PersonBootcampEntity;
 import co.com.pragma.r2dbc.entity.PersonEntity;
 import co.com.pragma.r2dbc.mappers.PersonBootcampEntityMapper;
 import co.com.pragma.r2dbc.providers.PersonBootcampSQLProvider;
+import io.r2dbc.spi.R2dbcException;
+import io.r2dbc.spi.Row;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -20,6 +25,9 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class PersonR2dbcAdapter implements PersonRepository {
 
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final DatabaseClient databaseClient;
     private final PersonBootcampEntityMapper entityMapper;
     private final PersonBootcampSQLProvider sqlProvider;
@@ -56,6 +64,25 @@ public class PersonR2dbcAdapter implements PersonRepository {
                 .doOnError(error -> log.error("Error enrolling person {} in bootcamp {}", personId, bootcampId, error));
     }
     
+    @Override
+    public Mono<PersonBootcamp> enrollPersonInBootcampAtomically(Long personId, Long bootcampId, int maxBootcamps) {
+        String sql = sqlProvider.insertPersonBootcampAtomically();
+        return databaseClient.sql(sql)
+                .bind("personId", personId)
+                .bind("bootcampId", bootcampId)
+                .bind("maxBootcamps", maxBootcamps)
+                .map((row, metadata) -> PersonBootcampEntity.builder()
+                        .id(row.get("id", Long.class))
+                        .personId(row.get("person_id", Long.class))
+                        .bootcampId(row.get("bootcamp_id", Long.class))
+                        .build())
+                .one()
+                .map(saved -> entityMapper.toDomain(saved, null))
+                .onErrorMap(this::isEnrollmentConflict,
+                            error -> new EnrollmentConflictException("Conflicto de inscripción", error))
+                .doOnError(error -> log.error("Error enrolling person {} in bootcamp {}", personId, bootcampId, error));
+    }
+
     @Override
     public Flux<PersonBootcamp> findEnrollmentsByPersonId(Long personId) {
         String sql = sqlProvider.findEnrollmentsByPersonId();
@@ -81,6 +108,28 @@ public class PersonR2dbcAdapter implements PersonRepository {
                 .doOnError(error -> log.error("Error finding bootcamp IDs for person: {}", personId, error));
     }
     
+    @Override
+    public Flux<Bootcamp> findBootcampsByPersonId(Long personId) {
+        String sql = sqlProvider.findBootcampsByPersonId();
+        return databaseClient.sql(sql)
+                .bind("personId", personId)
+                .map((row, metadata) -> toBootcampEntity(row))
+                .all()
+                .map(entityMapper::toBootcampDomain)
+                .doOnError(error -> log.error("Error finding bootcamps for person: {}", personId, error));
+    }
+
+    @Override
+    public Mono<Bootcamp> findBootcampById(Long bootcampId) {
+        String sql = sqlProvider.findBootcampById();
+        return databaseClient.sql(sql)
+                .bind("bootcampId", bootcampId)
+                .map((row, metadata) -> toBootcampEntity(row))
+                .one()
+                .map(entityMapper::toBootcampDomain)
+                .doOnError(error -> log.error("Error finding bootcamp by id: {}", bootcampId, error));
+    }
+
     @Override
     public Mono<Long> countEnrollmentsByPersonId(Long personId) {
         String sql = sqlProvider.countEnrollmentsByPersonId();
@@ -105,5 +154,25 @@ public class PersonR2dbcAdapter implements PersonRepository {
                 .map(entityMapper::toPersonDomain)
                 .doOnError(error -> log.error("Error finding people for bootcamp: {}", bootcampId, error));
     }
+
+    private boolean isEnrollmentConflict(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof R2dbcException r2dbcException) {
+                String sqlState = r2dbcException.getSqlState();
+                return EXCLUSION_VIOLATION.equals(sqlState) || UNIQUE_VIOLATION.equals(sqlState);
+            }
+        }
+        return false;
+    }
+
+    private BootcampEntity toBootcampEntity(Row row) {
+        return BootcampEntity.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .launchDate(row.get("launch_date", String.class))
+                .durationMonths(row.get("duration_months", Integer.class))
+                .build();
+    }
 }
 
@@ -6,7 +6,9 @@ import org.springframework.stereotype.Component;
 public class PersonBootcampSQLProvider {
 
     /**
-     * Query SQL para insertar inscripción de persona en bootcamp
+     * Query SQL para insertar inscripción de persona en bootcamp.
+     * Con el DDL de db/person_bootcamp_enrollment.sql, sus disparadores completan enrollment_period
+     * y enrollment_count, de modo que el modo DATABASE puede activarse sin backfill
      * @return SQL INSERT statement
      */
     public String insertPersonBootcamp() {
@@ -17,6 +19,36 @@ public class PersonBootcampSQLProvider {
                 """;
     }
 
+    /**
+     * Query SQL para inscribir una persona en un bootcamp en una sola sentencia.
+     * El UPDATE sobre person bloquea la fila solo si enrollment_count < :maxBootcamps (las inscripciones
+     * concurrentes de la misma persona se serializan y re-evalúan la condición); el disparador de
+     * person_bootcamp incrementa el contador, el INSERT calcula el periodo del bootcamp y la restricción
+     * person_bootcamp_no_overlap rechaza fechas solapadas.
+     * Requiere el DDL de db/person_bootcamp_enrollment.sql
+     * @return SQL INSERT statement
+     */
+    public String insertPersonBootcampAtomically() {
+        return """
+                WITH slot AS (
+                    UPDATE person
+                    SET enrollment_count = enrollment_count
+                    WHERE id = :personId
+                      AND enrollment_count < :maxBootcamps
+                      AND EXISTS (SELECT 1 FROM bootcamp WHERE id = :bootcampId)
+                    RETURNING id
+                )
+                INSERT INTO person_bootcamp (person_id, bootcamp_id, enrollment_period)
+                SELECT slot.id, b.id,
+                       daterange(b.launch_date::date,
+                                 (b.launch_date::date + make_interval(months => b.duration_months))::date,
+                                 '[]')
+                FROM slot
+                INNER JOIN bootcamp b ON b.id = :bootcampId
+                RETURNING id, person_id, bootcamp_id
+                """;
+    }
+
     /**
      * Query SQL para consultar inscripciones de una persona
      * @return SQL SELECT statement
@@ -35,7 +67,7 @@ public class PersonBootcampSQLProvider {
      */
     public String findBootcampsByPersonId() {
         return """
-                SELECT b.id, b.name, b.description, b.launch_date, b.duration_months
+                SELECT b.id, b.name, b.description, b.launch_date::text AS launch_date, b.duration_months
                 FROM bootcamp b
                 INNER JOIN person_bootcamp pb ON b.id = pb.bootcamp_id
                 WHERE pb.person_id = :personId
@@ -49,7 +81,7 @@ public class PersonBootcampSQLProvider {
      */
     public String findBootcampById() {
         return """
-                SELECT id, name, description, launch_date, duration_months
+                SELECT id, name, description, launch_date::text AS launch_date, duration_months
                 FROM bootcamp
                 WHERE id = :bootcampId
                 """;
@@ -0,0 +1,69 @@
+-- Soporte para EnrollmentMode.DATABASE (ver PersonBootcampSQLProvider.insertPersonBootcampAtomically)
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Cupos usados por persona; el UPDATE condicional serializa las inscripciones concurrentes de una misma persona
+ALTER TABLE person ADD COLUMN IF NOT EXISTS enrollment_count INTEGER NOT NULL DEFAULT 0;
+
+-- Periodo del bootcamp (extremos incluidos, igual que la validación en la aplicación)
+ALTER TABLE person_bootcamp ADD COLUMN IF NOT EXISTS enrollment_period DATERANGE;
+
+-- Los disparadores mantienen ambas columnas en los dos modos de inscripción (y en eliminaciones), así que el
+-- cambio de APPLICATION a DATABASE no requiere volver a ejecutar el backfill
+CREATE OR REPLACE FUNCTION person_bootcamp_fill_period() RETURNS trigger AS $$
+BEGIN
+    IF NEW.enrollment_period IS NULL THEN
+        SELECT daterange(b.launch_date::date,
+                         (b.launch_date::date + make_interval(months => b.duration_months))::date,
+                         '[]')
+        INTO NEW.enrollment_period
+        FROM bootcamp b
+        WHERE b.id = NEW.bootcamp_id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION person_bootcamp_count_enrollment() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE person SET enrollment_count = enrollment_count + 1 WHERE id = NEW.person_id;
+        RETURN NEW;
+    END IF;
+    UPDATE person SET enrollment_count = enrollment_count - 1 WHERE id = OLD.person_id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_person_bootcamp_fill_period ON person_bootcamp;
+CREATE TRIGGER trg_person_bootcamp_fill_period
+    BEFORE INSERT ON person_bootcamp
+    FOR EACH ROW EXECUTE FUNCTION person_bootcamp_fill_period();
+
+DROP TRIGGER IF EXISTS trg_person_bootcamp_count_enrollment ON person_bootcamp;
+CREATE TRIGGER trg_person_bootcamp_count_enrollment
+    AFTER INSERT OR DELETE ON person_bootcamp
+    FOR EACH ROW EXECUTE FUNCTION person_bootcamp_count_enrollment();
+
+-- Backfill de las inscripciones anteriores a los disparadores; es idempotente
+UPDATE person_bootcamp pb
+SET enrollment_period = daterange(b.launch_date::date,
+                                  (b.launch_date::date + make_interval(months => b.duration_months))::date,
+                                  '[]')
+FROM bootcamp b
+WHERE b.id = pb.bootcamp_id
+  AND pb.enrollment_period IS NULL;
+
+UPDATE person p
+SET enrollment_count = (SELECT COUNT(*) FROM person_bootcamp pb WHERE pb.person_id = p.id);
+
+-- Una persona no puede tener dos inscripciones con periodos solapados (incluye inscribirse dos veces al mismo bootcamp)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'person_bootcamp_no_overlap') THEN
+        ALTER TABLE person_bootcamp
+            ADD CONSTRAINT person_bootcamp_no_overlap
+            EXCLUDE USING gist (person_id WITH =, enrollment_period WITH &&);
+    END IF;
+END
+$$;
@@ -1,5 +1,6 @@
 package co.com.pragma.consumer.adapter;
 
+import co.com.pragma.consumer.dto.BootcampApiListWrapperResponse;
 import co.com.pragma.consumer.dto.BootcampApiResponse;
 import co.com.pragma.consumer.dto.BootcampApiWrapperResponse;
 import co.com.pragma.model.Bootcamp;
@@ -11,9 +12,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
 
+import java.util.List;
+import java.util.Map;
+
 @Component
 @Slf4j
 public class BootcampAdapter implements BootcampRepository {
@@ -39,7 +44,7 @@ public class BootcampAdapter implements BootcampRepository {
                     .uri("/api/v1/bootcamps/{id}", id)
                     .header("X-B3-TraceId", traceId)
                     .header("Authorization", token)
-                    .exchangeToMono(this::handleResponse)
+                    .exchangeToMono(response -> handleResponse(response, BootcampApiWrapperResponse.class))
                     .map(BootcampApiWrapperResponse::getData)
                     .map(this::toDomain)
                     .doOnNext(response ->
@@ -51,10 +56,38 @@ public class BootcampAdapter implements BootcampRepository {
         });
     }
 
+    @Override
+    public Flux<Bootcamp> findAllByIds(List<Long> ids) {
+        log.info("Requesting bootcamps from external service, count={}", ids.size());
+
+        return Flux.deferContextual(ctx -> {
+            String token = ctx.getOrDefault("token", "");
+            String traceId = ctx.getOrDefault("traceId", "");
+
+            log.debug("Calling external service, endpoint=/api/v1/bootcamps/items, count={}, traceId={}",
+                    ids.size(), traceId);
+
+            return webClient.post()
+                    .uri("/api/v1/bootcamps/items")
+                    .header("X-B3-TraceId", traceId)
+                    .header("Authorization", token)
+                    .bodyValue(Map.of("bootcampIds", ids))
+                    .exchangeToMono(response -> handleResponse(response, BootcampApiListWrapperResponse.class))
+                    .flatMapIterable(BootcampApiListWrapperResponse::getData)
+                    .map(this::toDomain)
+                    .doOnComplete(() ->
+                            log.debug("Received bootcamps from external service, count={}, traceId={}",
+                                    ids.size(), traceId))
+                    .doOnError(error ->
+                            log.error("Error retrieving bootcamps from external service, count={}, traceId={}",
+                                    ids.size(), traceId, error));
+        });
+    }
+
     /**
      * Maneja la respuesta HTTP
      */
-    private Mono<BootcampApiWrapperResponse> handleResponse(ClientResponse clientResponse) {
+    private <T> Mono<T> handleResponse(ClientResponse clientResponse, Class<T> responseType) {
         if (clientResponse.statusCode().isError()) {
             return clientResponse.bodyToMono(String.class)
                     .flatMap(body -> {
@@ -75,7 +108,7 @@ public class BootcampAdapter implements BootcampRepository {
                     });
         }
 
-        return clientResponse.bodyToMono(BootcampApiWrapperResponse.class);
+        return clientResponse.bodyToMono(responseType);
     }
 
     /**
@@ -6,6 +6,7 @@ import co.com.pragma.consumer.dto.CapabilitiesTechnologiesRequest;
 import co.com.pragma.consumer.dto.CapabilityWithTechnologiesResponse;
 import co.com.pragma.consumer.dto.PersonBootcampApiResponse;
 import co.com.pragma.consumer.mappers.BootcampDetailConsumerMapper;
+import co.com.pragma.consumer.singleflight.SingleFlightExecutor;
 import co.com.pragma.model.exceptions.BusinessException;
 import co.com.pragma.model.gateway.BootcampMetricsRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -27,17 +28,20 @@ public class BootcampMetricsAdapter implements BootcampMetricsRepository {
     private final WebClient capabilitiesWebClient;
     private final WebClient personBootcampWebClient;
     private final BootcampDetailConsumerMapper bootcampDetailConsumerMapper;
+    private final SingleFlightExecutor singleFlightExecutor;
 
     public BootcampMetricsAdapter(
             @Qualifier("bootcampWebClient") WebClient bootcampWebClient,
             @Qualifier("capabilitiesWebClient") WebClient capabilitiesWebClient,
             @Qualifier("personBootcampWebClient") WebClient personBootcampWebClient,
-            BootcampDetailConsumerMapper bootcampDetailConsumerMapper
+            BootcampDetailConsumerMapper bootcampDetailConsumerMapper,
+            SingleFlightExecutor singleFlightExecutor
     ) {
         this.bootcampWebClient = bootcampWebClient;
         this.capabilitiesWebClient = capabilitiesWebClient;
         this.personBootcampWebClient = personBootcampWebClient;
         this.bootcampDetailConsumerMapper = bootcampDetailConsumerMapper;
+        this.singleFlightExecutor = singleFlightExecutor;
     }
 
     @Override
@@ -52,11 +56,7 @@ public class BootcampMetricsAdapter implements BootcampMetricsRepository {
 
             log.debug("Calling bootcamp service, endpoint=/api/v1/bootcamps/{}, traceId={}", bootcampId, traceId);
 
-            return bootcampWebClient.get()
-                    .uri("/api/v1/bootcamps/{id}", bootcampId)
-                    .header("Authorization", token)
-                    .header("X-B3-TraceId", traceId)
-                    .exchangeToMono(this::handleBootcampResponse)
+            return getBootcamp(token, traceId, bootcampId)
                     .map(response -> {
                         BootcampApiResponse.BootcampData data = response.getData();
                         return new BootcampInfo(
@@ -88,11 +88,7 @@ public class BootcampMetricsAdapter implements BootcampMetricsRepository {
 
             log.info("token={}, traceId={}", token, traceId);
 
-            return bootcampWebClient.get()
-                    .uri("/api/v1/bootcamps/{id}", bootcampId)
-                    .header("Authorization", token)
-                    .header("X-B3-TraceId", traceId)
-                    .exchangeToMono(this::handleBootcampResponse)
+            return getBootcamp(token, traceId, bootcampId)
                     .map(bootcampResponse -> {
                         List<BootcampApiResponse.CapabilityRef> capabilities =
                                 bootcampResponse.getData()
@@ -116,11 +112,7 @@ public class BootcampMetricsAdapter implements BootcampMetricsRepository {
             String token = ctx.getOrDefault("token", "");
             String traceId = ctx.getOrDefault("traceId", "");
 
-            return bootcampWebClient.get()
-                    .uri("/api/v1/bootcamps/{id}", bootcampId)
-                    .header("Authorization", token)
-                    .header("X-B3-TraceId", traceId)
-                    .exchangeToMono(this::handleBootcampResponse)
+            return getBootcamp(token, traceId, bootcampId)
                     .flatMap(bootcampResponse -> {
                         List<BootcampApiResponse.CapabilityRef> capabilities =
                                 bootcampResponse.getData()
@@ -189,6 +181,17 @@ public class BootcampMetricsAdapter implements BootcampMetricsRepository {
         });
     }
 
+    private Mono<BootcampApiResponse> getBootcamp(String token, String traceId, Long bootcampId) {
+        return singleFlightExecutor.execute(
+                "GET /api/v1/bootcamps/" + bootcampId + "#" + token,
+                () -> bootcampWebClient.get()
+                        .uri("/api/v1/bootcamps/{id}", bootcampId)
+                        .header("Authorization", token)
+                        .header("X-B3-TraceId", traceId)
+                        .exchangeToMono(this::handleBootcampResponse)
+        );
+    }
+
     private Mono<BootcampApiResponse> handleBootcampResponse(ClientResponse clientResponse) {
         if (clientResponse.statusCode()
                 .isError()) {
@@ -6,6 +6,7 @@ import co.com.pragma.consumer.dto.CapabilitiesTechnologiesRequest;
 import co.com.pragma.consumer.dto.CapabilityWithTechnologiesResponse;
 import co.com.pragma.consumer.dto.PersonBootcampListResponse;
 import co.com.pragma.consumer.mappers.BootcampDetailConsumerMapper;
+import co.com.pragma.consumer.singleflight.SingleFlightExecutor;
 import co.com.pragma.model.exceptions.BusinessException;
 import co.com.pragma.model.gateway.BootcampDetailRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -28,17 +29,20 @@ public class BootcampMetricsResponseDataAdapter implements  BootcampDetailReposi
     private final WebClient capabilitiesWebClient;
     private final WebClient personBootcampWebClient;
     private final BootcampDetailConsumerMapper bootcampDetailConsumerMapper;
+    private final SingleFlightExecutor singleFlightExecutor;
 
     public BootcampMetricsResponseDataAdapter(
             @Qualifier("bootcampWebClient") WebClient bootcampWebClient,
             @Qualifier("capabilitiesWebClient") WebClient capabilitiesWebClient,
             @Qualifier("personBootcampWebClient") WebClient personBootcampWebClient,
-            BootcampDetailConsumerMapper bootcampDetailConsumerMapper
+            BootcampDetailConsumerMapper bootcampDetailConsumerMapper,
+            SingleFlightExecutor singleFlightExecutor
     ) {
         this.bootcampWebClient = bootcampWebClient;
         this.capabilitiesWebClient = capabilitiesWebClient;
         this.personBootcampWebClient = personBootcampWebClient;
         this.bootcampDetailConsumerMapper = bootcampDetailConsumerMapper;
+        this.singleFlightExecutor = singleFlightExecutor;
     }
 
     @Override
@@ -64,11 +68,13 @@ public class BootcampMetricsResponseDataAdapter implements  BootcampDetailReposi
     }
 
     private Mono<BootcampApiResponse> getBootcamp(String token, String traceId, Long id) {
-        return bootcampWebClient.get()
-                .uri("/api/v1/bootcamps/{id}", id)
-                .headers(h -> applyHeaders(h, token, traceId))
-                .exchangeToMono(this::handleBootcampResponse)
-                .cache();
+        return singleFlightExecutor.execute(
+                "GET /api/v1/bootcamps/" + id + "#" + token,
+                () -> bootcampWebClient.get()
+                        .uri("/api/v1/bootcamps/{id}", id)
+                        .headers(h -> applyHeaders(h, token, traceId))
+                        .exchangeToMono(this::handleBootcampResponse)
+        );
     }
 
     private Mono<List<CapabilityDetail>> getCapabilities(
@@ -0,0 +1,180 @@
+package co.com.pragma.consumer.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Comparte una única llamada en curso entre suscriptores concurrentes con la misma clave
+ * (URI y token), de modo que las peticiones idénticas de un reporte o detalle llegan una sola vez
+ * al servicio remoto. Un resultado exitoso se sigue compartiendo durante completedTtl para cubrir
+ * las llamadas que un mismo flujo encadena justo después; los errores se descartan de inmediato y,
+ * si todos los suscriptores cancelan, se cancela la llamada remota. Las claves se guardan como hash
+ * SHA-256 para no retener los tokens en memoria.
+ */
+@Component
+public class SingleFlightExecutor {
+
+    private static final String METRIC_NAME = "restconsumer.singleflight.requests";
+
+    private final Map<String, Flight<?>> inFlight = new ConcurrentHashMap<>();
+    private final Duration completedTtl;
+    private final Counter hits;
+    private final Counter misses;
+
+    public SingleFlightExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${adapter.restconsumer.singleFlight.completedTtl:0ms}") Duration completedTtl
+    ) {
+        this.completedTtl = completedTtl;
+        this.hits = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .description("Llamadas atendidas por una petición ya en curso")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .description("Llamadas que generaron una petición al servicio remoto")
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> execute(String key, Supplier<Mono<T>> call) {
+        return Mono.deferContextual(context -> {
+            String flightKey = hash(key);
+            while (true) {
+                AtomicBoolean created = new AtomicBoolean(false);
+                @SuppressWarnings("unchecked")
+                Flight<T> flight = (Flight<T>) inFlight.computeIfAbsent(flightKey, k -> {
+                    created.set(true);
+                    return new Flight<T>();
+                });
+                if (!flight.join()) {
+                    // Todos sus suscriptores la cancelaron; se reemplaza por una llamada nueva
+                    inFlight.remove(flightKey, flight);
+                    continue;
+                }
+
+                if (created.get()) {
+                    misses.increment();
+                    flight.start(call, context, success -> release(flightKey, flight, success));
+                } else {
+                    hits.increment();
+                }
+                return flight.result()
+                        .doOnCancel(() -> {
+                            if (flight.leave()) {
+                                inFlight.remove(flightKey, flight);
+                            }
+                        });
+            }
+        });
+    }
+
+    private void release(String key, Flight<?> flight, boolean success) {
+        if (success && !completedTtl.isZero()) {
+            Mono.delay(completedTtl)
+                    .subscribe(tick -> inFlight.remove(key, flight));
+            return;
+        }
+        inFlight.remove(key, flight);
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+
+    /**
+     * Llamada remota compartida: su resultado se publica en un Sinks.One que lo repite a los suscriptores tardíos
+     */
+    private static final class Flight<T> {
+
+        private final Sinks.One<T> sink = Sinks.one();
+        private int subscribers;
+        private boolean cancelled;
+        private boolean done;
+        private Disposable upstream;
+
+        synchronized boolean join() {
+            if (cancelled) {
+                return false;
+            }
+            subscribers++;
+            return true;
+        }
+
+        /**
+         * @return true si era el último suscriptor de una llamada sin terminar y esta se canceló
+         */
+        boolean leave() {
+            Disposable toCancel;
+            synchronized (this) {
+                subscribers--;
+                if (subscribers > 0 || done) {
+                    return false;
+                }
+                cancelled = true;
+                toCancel = upstream;
+            }
+            if (toCancel != null) {
+                toCancel.dispose();
+            }
+            return true;
+        }
+
+        void start(Supplier<Mono<T>> call, ContextView context, Consumer<Boolean> onTerminate) {
+            Disposable subscription = Mono.defer(call)
+                    .subscribe(
+                            sink::tryEmitValue,
+                            error -> {
+                                finish();
+                                onTerminate.accept(false);
+                                sink.tryEmitError(error);
+                            },
+                            () -> {
+                                finish();
+                                onTerminate.accept(true);
+                                sink.tryEmitEmpty();
+                            },
+                            Context.of(context));
+
+            boolean cancelNow;
+            synchronized (this) {
+                upstream = subscription;
+                cancelNow = cancelled;
+            }
+            if (cancelNow) {
+                subscription.dispose();
+            }
+        }
+
+        Mono<T> result() {
+            return sink.asMono();
+        }
+
+        private synchronized void finish() {
+            done = true;
+        }
+    }
+}
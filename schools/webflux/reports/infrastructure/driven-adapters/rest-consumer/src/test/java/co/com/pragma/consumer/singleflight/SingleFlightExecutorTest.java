@@ -0,0 +1,164 @@
+package co.com.pragma.consumer.singleflight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightExecutorTest {
+
+    private static final String KEY = "GET /api/v1/bootcamps/1#Bearer token";
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualTimeScheduler scheduler;
+    private SingleFlightExecutor executor;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = VirtualTimeScheduler.getOrSet();
+        executor = new SingleFlightExecutor(meterRegistry, Duration.ofSeconds(1));
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    @DisplayName("Llamadas concurrentes con la misma clave comparten una sola petición remota")
+    void execute_ShouldShareUpstreamCall_WhenCallersAreConcurrent() {
+        // Arrange
+        Sinks.One<String> upstream = Sinks.one();
+        Supplier<Mono<String>> call = counting(upstream.asMono());
+
+        // Act
+        StepVerifier first = StepVerifier.create(executor.execute(KEY, call))
+                .expectNext("bootcamp")
+                .expectComplete()
+                .verifyLater();
+        StepVerifier second = StepVerifier.create(executor.execute(KEY, call))
+                .expectNext("bootcamp")
+                .expectComplete()
+                .verifyLater();
+        upstream.tryEmitValue("bootcamp");
+
+        // Assert
+        first.verify();
+        second.verify();
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    @DisplayName("Un error libera la entrada y la siguiente llamada vuelve al servicio remoto")
+    void execute_ShouldReleaseEntry_WhenUpstreamFails() {
+        // Arrange
+        Supplier<Mono<String>> failing = counting(Mono.error(new IllegalStateException("remote down")));
+        Supplier<Mono<String>> succeeding = counting(Mono.just("bootcamp"));
+
+        // Act & Assert
+        StepVerifier.create(executor.execute(KEY, failing))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(executor.execute(KEY, succeeding))
+                .expectNext("bootcamp")
+                .verifyComplete();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(2.0, count("miss"));
+    }
+
+    @Test
+    @DisplayName("Si todos los suscriptores cancelan se cancela la petición remota y se libera la entrada")
+    void execute_ShouldCancelUpstreamAndReleaseEntry_WhenAllSubscribersCancel() {
+        // Arrange
+        AtomicBoolean upstreamCancelled = new AtomicBoolean(false);
+        Supplier<Mono<String>> pending = counting(Mono.<String>never()
+                .doOnCancel(() -> upstreamCancelled.set(true)));
+
+        Disposable first = executor.execute(KEY, pending).subscribe();
+        Disposable second = executor.execute(KEY, pending).subscribe();
+
+        // Act
+        first.dispose();
+        assertFalse(upstreamCancelled.get());
+        second.dispose();
+
+        // Assert
+        assertTrue(upstreamCancelled.get());
+        StepVerifier.create(executor.execute(KEY, counting(Mono.just("bootcamp"))))
+                .expectNext("bootcamp")
+                .verifyComplete();
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Un resultado exitoso se comparte durante completedTtl y luego expira")
+    void execute_ShouldReuseCompletedResult_UntilTtlExpires() {
+        // Arrange
+        Supplier<Mono<String>> call = counting(Mono.just("bootcamp"));
+
+        // Act & Assert
+        StepVerifier.create(executor.execute(KEY, call))
+                .expectNext("bootcamp")
+                .verifyComplete();
+
+        scheduler.advanceTimeBy(Duration.ofMillis(999));
+        StepVerifier.create(executor.execute(KEY, call))
+                .expectNext("bootcamp")
+                .verifyComplete();
+        assertEquals(1, upstreamCalls.get());
+
+        scheduler.advanceTimeBy(Duration.ofMillis(1));
+        StepVerifier.create(executor.execute(KEY, call))
+                .expectNext("bootcamp")
+                .verifyComplete();
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Claves distintas no comparten la petición remota")
+    void execute_ShouldNotShareUpstreamCall_WhenKeysDiffer() {
+        // Arrange
+        Supplier<Mono<String>> call = counting(Mono.just("bootcamp"));
+
+        // Act
+        executor.execute(KEY, call).block();
+        executor.execute("GET /api/v1/bootcamps/1#Bearer other", call).block();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(0.0, count("hit"));
+    }
+
+    private <T> Supplier<Mono<T>> counting(Mono<T> response) {
+        return () -> {
+            upstreamCalls.incrementAndGet();
+            return response;
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("restconsumer.singleflight.requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
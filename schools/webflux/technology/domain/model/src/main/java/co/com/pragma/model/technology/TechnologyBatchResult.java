@@ -0,0 +1,21 @@
+package co.com.pragma.model.technology;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of one item of a bulk Technology registration, in the same position as the request.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnologyBatchResult {
+
+    private String id;
+    private String name;
+    private TechnologyBatchStatus status;
+    private String message;
+}
@@ -0,0 +1,10 @@
+package co.com.pragma.model.technology;
+
+/**
+ * Outcome of each item of a bulk Technology registration.
+ */
+public enum TechnologyBatchStatus {
+    CREATED,
+    DUPLICATED_IN_REQUEST,
+    ALREADY_EXISTS
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.model.technology;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latest change of a Technology in the change feed: its current name, or a tombstone when it was deleted.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnologyChange {
+
+    private Long id;
+    private String name;
+    private Long version;
+    private boolean deleted;
+}
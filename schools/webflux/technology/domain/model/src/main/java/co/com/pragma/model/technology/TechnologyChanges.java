@@ -0,0 +1,25 @@
+package co.com.pragma.model.technology;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Slice of the Technology change feed ordered by version; version is the value to send as since
+ * in the next poll, and hasMore tells whether that poll can be issued right away. resyncRequired is set when
+ * the caller's version is older than the purged tombstones; the caller must then rebuild from version 0.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnologyChanges {
+
+    private List<TechnologyChange> changes;
+    private Long version;
+    private boolean hasMore;
+    private boolean resyncRequired;
+}
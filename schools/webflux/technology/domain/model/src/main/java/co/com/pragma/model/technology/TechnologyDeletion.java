@@ -0,0 +1,21 @@
+package co.com.pragma.model.technology;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk Technology deletion: ids deleted and ids kept because they are referenced or do not exist.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnologyDeletion {
+
+    private List<Long> deletedIds;
+    private List<Long> keptIds;
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.model.technology;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page of the Technology catalog ordered by (name, id); nextCursor is null on the last page.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnologyPage {
+
+    private List<Technology> items;
+    private String nextCursor;
+}
@@ -1,6 +1,8 @@
 package co.com.pragma.model.technology.gateways;
 
 import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyChanges;
+import co.com.pragma.model.technology.TechnologyPage;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -16,11 +18,32 @@ public interface TechnologyRepository {
      */
     Mono<Technology> save(Technology technology);
 
+    /**
+     * Persists a new Technology in a single statement unless its name is already registered.
+     * @param technology technology to persist
+     * @return Mono with the persisted Technology, or empty if the name already exists
+     */
+    Mono<Technology> saveIfNameAbsent(Technology technology);
+
     /**
      * Checks if there is already a Technology registered with the given name.
      */
     Mono<Boolean> existsByName(String name);
 
+    /**
+     * Persists several new Technologies in a single statement, skipping names already registered.
+     * @param technologies technologies to persist
+     * @return Flux of the persisted Technologies with their generated ids
+     */
+    Flux<Technology> saveAll(List<Technology> technologies);
+
+    /**
+     * Finds which of the given names are already registered, with a single query.
+     * @param names technology names to check
+     * @return Flux of the names that already exist
+     */
+    Flux<String> findExistingNames(List<String> names);
+
     /**
      * Finds all Technologies by their IDs.
      * @param ids list of technology IDs to search for
@@ -34,6 +57,50 @@ public interface TechnologyRepository {
      * @return Mono<Void> that completes when the technology is deleted
      */
     Mono<Void> deleteById(Long id);
-}
 
+    /**
+     * Deletes, in a single statement, the given Technologies except the referenced ones.
+     * @param ids technology IDs to delete
+     * @param referencedIds technology IDs that must be kept
+     * @return Flux of the deleted technology IDs
+     */
+    Flux<Long> deleteAllByIdsExcept(List<Long> ids, List<Long> referencedIds);
 
+    /**
+     * Finds a page of Technologies ordered by (name, id), starting after the given cursor.
+     * @param cursor opaque cursor returned by the previous page, or null for the first page
+     * @param size maximum number of Technologies in the page
+     * @return Mono with the page and the cursor of the next one
+     */
+    Mono<TechnologyPage> findPage(String cursor, int size);
+
+    /**
+     * Streams every Technology ordered by (name, id), starting after the given cursor.
+     * @param cursor opaque cursor returned by a previous page, or null to start from the beginning
+     * @return Flux of Technologies, read from the database in keyset batches
+     */
+    Flux<Technology> streamAll(String cursor);
+
+    /**
+     * Finds the Technologies whose name starts with the given prefix, ignoring case, ordered by name.
+     * @param prefix name prefix
+     * @param limit maximum number of Technologies to return
+     * @return Flux of matching Technologies with their id and name
+     */
+    Flux<Technology> suggestByPrefix(String prefix, int limit);
+
+    /**
+     * Finds the changes committed after the given version, ordered by version; each Technology appears once
+     * with its latest state, and deleted Technologies appear as tombstones.
+     * @param since last version already applied by the caller, or 0 to read the whole catalog
+     * @param limit maximum number of changes to return
+     * @return Mono with the changes and the version to poll from next
+     */
+    Mono<TechnologyChanges> findChangesSince(long since, int limit);
+
+    /**
+     * Finds the highest version among the tombstones already purged from the change feed.
+     * @return Mono with the purged version, or 0 if no tombstone has been purged
+     */
+    Mono<Long> findPurgedVersion();
+}
@@ -0,0 +1,18 @@
+package co.com.pragma.model.technology.gateways;
+
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Port to query which Technologies are referenced by capabilities.
+ */
+public interface TechnologyUsageRepository {
+
+    /**
+     * Finds, with a single call, which of the given Technologies are used by at least one capability.
+     * @param technologyIds technology IDs to check
+     * @return Flux of the referenced technology IDs
+     */
+    Flux<Long> findReferencedIds(List<Long> technologyIds);
+}
@@ -0,0 +1,52 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.TechnologyDeletion;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import co.com.pragma.model.technology.gateways.TechnologyUsageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Use case to delete many Technologies at once, keeping the ones still used by capabilities.
+ */
+@Log
+@RequiredArgsConstructor
+public class DeleteUnreferencedTechnologiesUseCase {
+
+    private final TechnologyRepository technologyRepository;
+    private final TechnologyUsageRepository technologyUsageRepository;
+
+    /**
+     * Deletes the given Technologies that are not referenced by any capability.
+     * <p>
+     * The usage check (capability service) and the delete run in different services, so they are not
+     * one transaction: a capability registered between both steps can end up pointing to a deleted technology.
+     *
+     * @param ids technology IDs to delete
+     * @return the deleted ids and the kept ids (referenced or not found), in request order
+     */
+    public Mono<TechnologyDeletion> execute(List<Long> ids) {
+        List<Long> requestedIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        return technologyUsageRepository.findReferencedIds(requestedIds)
+                .collectList()
+                .flatMap(referencedIds -> technologyRepository.deleteAllByIdsExcept(requestedIds, referencedIds)
+                        .collect(HashSet<Long>::new, Set::add))
+                .map(deletedIds -> TechnologyDeletion.builder()
+                        .deletedIds(requestedIds.stream().filter(deletedIds::contains).toList())
+                        .keptIds(requestedIds.stream().filter(id -> !deletedIds.contains(id)).toList())
+                        .build())
+                .doOnNext(deletion -> log.info("Technologies deleted: " + deletion.getDeletedIds().size()
+                        + ", kept: " + deletion.getKeptIds().size()))
+                .doOnError(error -> log.severe("Failed to delete technologies " + error.getMessage()));
+    }
+}
@@ -17,7 +17,8 @@ public class GetTechnologiesByIdsUseCase {
 
     public Flux<Technology> execute(List<Long> ids){
         return technologyRepository.findAllByIds(ids)
-                .doOnNext( tech -> log.info("Found technology: " + tech.getName()))
+                .doOnNext( tech -> log.fine(() -> "Found technology: " + tech.getName()))
+                .doOnComplete( () -> log.info("Technologies fetched for " + ids.size() + " requested ids"))
                 .doOnError( error -> log.log(Level.SEVERE , "Error fetching technologies: " + error.getMessage()));
     }
 
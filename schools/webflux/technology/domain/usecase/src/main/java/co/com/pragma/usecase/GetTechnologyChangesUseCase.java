@@ -0,0 +1,54 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.TechnologyChanges;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Use case to read the Technology change feed, used by downstream services to keep a local replica
+ * of the catalog up to date.
+ */
+@Log
+@RequiredArgsConstructor
+public class GetTechnologyChangesUseCase {
+
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 1000;
+
+    private final TechnologyRepository technologyRepository;
+
+    /**
+     * Returns the changes committed after the given version. When that version is older than the purged
+     * tombstones, the deletions in between are gone, so no changes are returned and resyncRequired is set.
+     * The purge horizon is read after the changes: a purge that ran while they were read is still detected.
+     *
+     * @param since last version applied by the caller; negative values are treated as 0
+     * @param limit requested number of changes; values out of [1, MAX_LIMIT] are capped
+     * @return the changes and the version to poll from next
+     */
+    public Mono<TechnologyChanges> execute(long since, int limit) {
+        int changesLimit = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        long fromVersion = Math.max(since, 0L);
+        Mono<TechnologyChanges> changesSince = technologyRepository.findChangesSince(fromVersion, changesLimit);
+
+        return (fromVersion == 0L ? changesSince : changesSince
+                .flatMap(found -> technologyRepository.findPurgedVersion()
+                        .map(purgedVersion -> fromVersion < purgedVersion ? resyncRequired() : found)))
+                .doOnNext(changes -> log.fine("Technology changes retrieved, since=" + since
+                        + ", changes=" + changes.getChanges().size() + ", version=" + changes.getVersion()))
+                .doOnError(error -> log.log(Level.SEVERE, "Error reading technology changes: " + error.getMessage()));
+    }
+
+    private TechnologyChanges resyncRequired() {
+        return TechnologyChanges.builder()
+                .changes(List.of())
+                .version(0L)
+                .resyncRequired(true)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyPage;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.logging.Level;
+
+/**
+ * Use case to list the Technology catalog with keyset pagination.
+ */
+@Log
+@RequiredArgsConstructor
+public class ListTechnologiesUseCase {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final TechnologyRepository technologyRepository;
+
+    /**
+     * Returns one page of Technologies ordered by (name, id).
+     *
+     * @param cursor cursor of the previous page, or null for the first page
+     * @param size requested page size; values out of [1, MAX_PAGE_SIZE] are capped
+     * @return the page and the cursor of the next one
+     */
+    public Mono<TechnologyPage> execute(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return technologyRepository.findPage(cursor, pageSize)
+                .doOnNext(page -> log.info("Technologies page retrieved, items=" + page.getItems().size()
+                        + ", hasNext=" + (page.getNextCursor() != null)))
+                .doOnError(error -> log.log(Level.SEVERE, "Error listing technologies: " + error.getMessage()));
+    }
+
+    /**
+     * Streams every Technology ordered by (name, id), for sync jobs that read the whole catalog.
+     *
+     * @param cursor cursor to resume from, or null to start from the beginning
+     * @return Flux of Technologies
+     */
+    public Flux<Technology> stream(String cursor) {
+        return technologyRepository.streamAll(cursor)
+                .doOnError(error -> log.log(Level.SEVERE, "Error streaming technologies: " + error.getMessage()));
+    }
+}
@@ -0,0 +1,95 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyBatchResult;
+import co.com.pragma.model.technology.TechnologyBatchStatus;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case to register many Technologies at once.
+ */
+@Log
+@RequiredArgsConstructor
+public class RegisterTechnologiesBatchUseCase {
+
+    private static final String DUPLICATED_IN_REQUEST_MESSAGE = "El nombre de la tecnología está repetido en la solicitud";
+    private static final String ALREADY_EXISTS_MESSAGE = "El nombre de la tecnología ya existe";
+
+    private final TechnologyRepository technologyRepository;
+
+    /**
+     * Registers the given Technologies, skipping names repeated in the request or already registered.
+     * The first occurrence of a repeated name is the one registered.
+     *
+     * @param technologies technologies to be registered
+     * @return one result per requested technology, in request order
+     */
+    public Mono<List<TechnologyBatchResult>> execute(List<Technology> technologies) {
+        List<String> names = technologies.stream()
+                .map(Technology::getName)
+                .distinct()
+                .toList();
+
+        return technologyRepository.findExistingNames(names)
+                .collect(Collectors.toSet())
+                .flatMap(existingNames -> {
+                    Set<String> seenNames = new HashSet<>();
+                    List<Technology> accepted = technologies.stream()
+                            .filter(technology -> seenNames.add(technology.getName()))
+                            .filter(technology -> !existingNames.contains(technology.getName()))
+                            .toList();
+
+                    log.info("Registering technologies batch, requested=" + technologies.size()
+                            + ", accepted=" + accepted.size());
+
+                    return saveAccepted(accepted)
+                            .map(saved -> toResults(technologies, existingNames, saved));
+                });
+    }
+
+    private Mono<Map<String, Technology>> saveAccepted(List<Technology> accepted) {
+        if (accepted.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return technologyRepository.saveAll(accepted)
+                .collectMap(Technology::getName, Function.identity());
+    }
+
+    private List<TechnologyBatchResult> toResults(List<Technology> technologies,
+                                                  Set<String> existingNames,
+                                                  Map<String, Technology> saved) {
+        Set<String> reportedNames = new HashSet<>();
+        return technologies.stream()
+                .map(technology -> {
+                    String name = technology.getName();
+                    if (!reportedNames.add(name)) {
+                        return result(name, null, TechnologyBatchStatus.DUPLICATED_IN_REQUEST, DUPLICATED_IN_REQUEST_MESSAGE);
+                    }
+                    Technology savedTechnology = saved.get(name);
+                    if (existingNames.contains(name) || savedTechnology == null) {
+                        return result(name, null, TechnologyBatchStatus.ALREADY_EXISTS, ALREADY_EXISTS_MESSAGE);
+                    }
+                    return result(name, savedTechnology.getId(), TechnologyBatchStatus.CREATED, null);
+                })
+                .toList();
+    }
+
+    private TechnologyBatchResult result(String name, String id, TechnologyBatchStatus status, String message) {
+        return TechnologyBatchResult.builder()
+                .id(id)
+                .name(name)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
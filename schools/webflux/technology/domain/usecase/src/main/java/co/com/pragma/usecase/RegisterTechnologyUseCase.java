@@ -21,13 +21,8 @@ public class RegisterTechnologyUseCase {
      * @return the persisted Technology with its generated id (if any)
      */
     public Mono<Technology> execute(Technology technology) {
-        return technologyRepository.existsByName(technology.getName())
-                .flatMap(exists -> {
-                    if (Boolean.TRUE.equals(exists)) {
-                        return Mono.error(new BusinessException("El nombre de la tecnología ya existe"));
-                    }
-                    return technologyRepository.save(technology);
-                });
+        return technologyRepository.saveIfNameAbsent(technology)
+                .switchIfEmpty(Mono.error(() -> new BusinessException("El nombre de la tecnología ya existe")));
     }
 }
 
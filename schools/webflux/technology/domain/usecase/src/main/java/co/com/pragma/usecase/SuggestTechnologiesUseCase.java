@@ -0,0 +1,38 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import reactor.core.publisher.Flux;
+
+import java.util.logging.Level;
+
+/**
+ * Use case to autocomplete Technology names by prefix.
+ */
+@Log
+@RequiredArgsConstructor
+public class SuggestTechnologiesUseCase {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private final TechnologyRepository technologyRepository;
+
+    /**
+     * Returns the first Technologies, by name, whose name starts with the prefix.
+     *
+     * @param prefix name prefix; a blank prefix returns no suggestions
+     * @param limit requested number of suggestions; values out of [1, MAX_LIMIT] are capped
+     * @return Flux of matching Technologies
+     */
+    public Flux<Technology> execute(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return Flux.empty();
+        }
+        int suggestions = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return technologyRepository.suggestByPrefix(prefix.strip(), suggestions)
+                .doOnError(error -> log.log(Level.SEVERE, "Error suggesting technologies: " + error.getMessage()));
+    }
+}
@@ -0,0 +1,66 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.TechnologyDeletion;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import co.com.pragma.model.technology.gateways.TechnologyUsageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteUnreferencedTechnologiesUseCaseTest {
+
+    @Mock
+    private TechnologyRepository technologyRepository;
+
+    @Mock
+    private TechnologyUsageRepository technologyUsageRepository;
+
+    @InjectMocks
+    private DeleteUnreferencedTechnologiesUseCase deleteUnreferencedTechnologiesUseCase;
+
+    @Test
+    @DisplayName("Should delete unreferenced technologies and report the kept ones")
+    void executeSuccess() {
+        // Arrange
+        when(technologyUsageRepository.findReferencedIds(List.of(1L, 2L, 3L))).thenReturn(Flux.just(2L));
+        when(technologyRepository.deleteAllByIdsExcept(List.of(1L, 2L, 3L), List.of(2L)))
+                .thenReturn(Flux.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(deleteUnreferencedTechnologiesUseCase.execute(List.of(1L, 2L, 2L, 3L)))
+                .assertNext(deletion -> {
+                    assertThat(deletion.getDeletedIds()).containsExactly(1L);
+                    assertThat(deletion.getKeptIds()).containsExactly(2L, 3L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not delete anything when usage check fails")
+    void executeUsageError() {
+        // Arrange
+        when(technologyUsageRepository.findReferencedIds(anyList()))
+                .thenReturn(Flux.error(new RuntimeException("Capability service unavailable")));
+
+        // Act & Assert
+        StepVerifier.create(deleteUnreferencedTechnologiesUseCase.execute(List.of(1L)))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        verify(technologyRepository, never()).deleteAllByIdsExcept(anyList(), anyList());
+    }
+}
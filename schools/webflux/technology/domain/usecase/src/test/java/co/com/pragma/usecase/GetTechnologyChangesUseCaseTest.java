@@ -0,0 +1,97 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.TechnologyChange;
+import co.com.pragma.model.technology.TechnologyChanges;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetTechnologyChangesUseCaseTest {
+
+    @Mock
+    private TechnologyRepository technologyRepository;
+
+    @InjectMocks
+    private GetTechnologyChangesUseCase getTechnologyChangesUseCase;
+
+    @Test
+    @DisplayName("Should return the changes after the given version")
+    void executeSuccess() {
+        // Arrange
+        TechnologyChanges changes = TechnologyChanges.builder()
+                .changes(List.of(
+                        TechnologyChange.builder().id(1L).name("Java").version(11L).build(),
+                        TechnologyChange.builder().id(2L).version(12L).deleted(true).build()))
+                .version(12L)
+                .hasMore(false)
+                .build();
+        when(technologyRepository.findChangesSince(10L, 100)).thenReturn(Mono.just(changes));
+        when(technologyRepository.findPurgedVersion()).thenReturn(Mono.just(10L));
+
+        // Act & Assert
+        StepVerifier.create(getTechnologyChangesUseCase.execute(10L, 100))
+                .assertNext(result -> {
+                    assertThat(result.getChanges()).hasSize(2);
+                    assertThat(result.getVersion()).isEqualTo(12L);
+                    assertThat(result.isHasMore()).isFalse();
+                    assertThat(result.isResyncRequired()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should require a resync when the version is older than the purged tombstones")
+    void executeRequiresResyncBeforePurgeHorizon() {
+        // Arrange
+        TechnologyChanges changes = TechnologyChanges.builder()
+                .changes(List.of(TechnologyChange.builder().id(1L).name("Java").version(31L).build()))
+                .version(31L)
+                .build();
+        when(technologyRepository.findChangesSince(10L, 100)).thenReturn(Mono.just(changes));
+        when(technologyRepository.findPurgedVersion()).thenReturn(Mono.just(30L));
+
+        // Act & Assert
+        StepVerifier.create(getTechnologyChangesUseCase.execute(10L, 100))
+                .assertNext(result -> {
+                    assertThat(result.isResyncRequired()).isTrue();
+                    assertThat(result.getChanges()).isEmpty();
+                    assertThat(result.getVersion()).isZero();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should cap the limit and the version")
+    void executeCapsArguments() {
+        // Arrange
+        TechnologyChanges empty = TechnologyChanges.builder().changes(List.of()).version(0L).build();
+        when(technologyRepository.findChangesSince(0L, GetTechnologyChangesUseCase.MAX_LIMIT)).thenReturn(Mono.just(empty));
+        when(technologyRepository.findChangesSince(0L, 1)).thenReturn(Mono.just(empty));
+
+        // Act & Assert
+        StepVerifier.create(getTechnologyChangesUseCase.execute(-5L, 1_000_000))
+                .expectNext(empty)
+                .verifyComplete();
+        StepVerifier.create(getTechnologyChangesUseCase.execute(0L, 0))
+                .expectNext(empty)
+                .verifyComplete();
+
+        verify(technologyRepository).findChangesSince(0L, GetTechnologyChangesUseCase.MAX_LIMIT);
+        verify(technologyRepository).findChangesSince(0L, 1);
+        verify(technologyRepository, never()).findPurgedVersion();
+    }
+}
@@ -0,0 +1,83 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyPage;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListTechnologiesUseCaseTest {
+
+    @Mock
+    private TechnologyRepository technologyRepository;
+
+    @InjectMocks
+    private ListTechnologiesUseCase listTechnologiesUseCase;
+
+    @Test
+    @DisplayName("Should return the page and the next cursor")
+    void executeSuccess() {
+        // Arrange
+        TechnologyPage page = TechnologyPage.builder()
+                .items(List.of(Technology.builder().id("1").name("Java").build()))
+                .nextCursor("next-cursor")
+                .build();
+        when(technologyRepository.findPage("cursor", 10)).thenReturn(Mono.just(page));
+
+        // Act & Assert
+        StepVerifier.create(listTechnologiesUseCase.execute("cursor", 10))
+                .assertNext(result -> {
+                    assertThat(result.getItems()).hasSize(1);
+                    assertThat(result.getNextCursor()).isEqualTo("next-cursor");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should cap the page size")
+    void executeCapsPageSize() {
+        // Arrange
+        TechnologyPage emptyPage = TechnologyPage.builder().items(List.of()).build();
+        when(technologyRepository.findPage(null, ListTechnologiesUseCase.MAX_PAGE_SIZE)).thenReturn(Mono.just(emptyPage));
+        when(technologyRepository.findPage(null, 1)).thenReturn(Mono.just(emptyPage));
+
+        // Act & Assert
+        StepVerifier.create(listTechnologiesUseCase.execute(null, 10_000))
+                .expectNext(emptyPage)
+                .verifyComplete();
+        StepVerifier.create(listTechnologiesUseCase.execute(null, 0))
+                .expectNext(emptyPage)
+                .verifyComplete();
+
+        verify(technologyRepository).findPage(null, ListTechnologiesUseCase.MAX_PAGE_SIZE);
+        verify(technologyRepository).findPage(null, 1);
+    }
+
+    @Test
+    @DisplayName("Should stream the whole catalog from the cursor")
+    void streamSuccess() {
+        // Arrange
+        when(technologyRepository.streamAll(null)).thenReturn(Flux.just(
+                Technology.builder().id("1").name("Go").build(),
+                Technology.builder().id("2").name("Java").build()));
+
+        // Act & Assert
+        StepVerifier.create(listTechnologiesUseCase.stream(null))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+}
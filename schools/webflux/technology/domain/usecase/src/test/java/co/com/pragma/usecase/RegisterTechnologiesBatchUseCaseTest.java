@@ -0,0 +1,124 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyBatchResult;
+import co.com.pragma.model.technology.TechnologyBatchStatus;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RegisterTechnologiesBatchUseCaseTest {
+
+    @Mock
+    private TechnologyRepository technologyRepository;
+
+    @InjectMocks
+    private RegisterTechnologiesBatchUseCase registerTechnologiesBatchUseCase;
+
+    @Test
+    void shouldRegisterOnlyNewAndFirstOccurrenceNames() {
+        // Given
+        Technology java = technology("Java");
+        Technology kotlin = technology("Kotlin");
+        Technology go = technology("Go");
+        List<Technology> request = List.of(java, kotlin, technology("Java"), go);
+
+        given(technologyRepository.findExistingNames(List.of("Java", "Kotlin", "Go")))
+                .willReturn(Flux.just("Kotlin"));
+        given(technologyRepository.saveAll(List.of(java, go)))
+                .willReturn(Flux.just(
+                        Technology.builder().id("1").name("Java").build(),
+                        Technology.builder().id("2").name("Go").build()));
+
+        // When
+        Mono<List<TechnologyBatchResult>> result = registerTechnologiesBatchUseCase.execute(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(results -> {
+                    assertThat(results).extracting(TechnologyBatchResult::getStatus).containsExactly(
+                            TechnologyBatchStatus.CREATED,
+                            TechnologyBatchStatus.ALREADY_EXISTS,
+                            TechnologyBatchStatus.DUPLICATED_IN_REQUEST,
+                            TechnologyBatchStatus.CREATED);
+                    assertThat(results).extracting(TechnologyBatchResult::getId)
+                            .containsExactly("1", null, null, "2");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotInsertWhenEveryNameAlreadyExists() {
+        // Given
+        given(technologyRepository.findExistingNames(List.of("Java")))
+                .willReturn(Flux.just("Java"));
+
+        // When
+        Mono<List<TechnologyBatchResult>> result = registerTechnologiesBatchUseCase.execute(List.of(technology("Java")));
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(results -> {
+                    assertThat(results).hasSize(1);
+                    assertThat(results.get(0).getStatus()).isEqualTo(TechnologyBatchStatus.ALREADY_EXISTS);
+                    assertThat(results.get(0).getMessage()).isEqualTo("El nombre de la tecnología ya existe");
+                })
+                .verifyComplete();
+
+        verify(technologyRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldReportAlreadyExistsWhenNameIsRegisteredConcurrently() {
+        // Given
+        given(technologyRepository.findExistingNames(List.of("Java"))).willReturn(Flux.empty());
+        given(technologyRepository.saveAll(anyList())).willReturn(Flux.empty());
+
+        // When
+        Mono<List<TechnologyBatchResult>> result = registerTechnologiesBatchUseCase.execute(List.of(technology("Java")));
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(results -> assertThat(results.get(0).getStatus())
+                        .isEqualTo(TechnologyBatchStatus.ALREADY_EXISTS))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldPropagateRepositoryErrorWhenSaving() {
+        // Given
+        given(technologyRepository.findExistingNames(anyList())).willReturn(Flux.empty());
+        given(technologyRepository.saveAll(any())).willReturn(Flux.error(new RuntimeException("Database save error")));
+
+        // When
+        Mono<List<TechnologyBatchResult>> result = registerTechnologiesBatchUseCase.execute(List.of(technology("Java")));
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(RuntimeException.class)
+                .verify();
+    }
+
+    private Technology technology(String name) {
+        return Technology.builder()
+                .name(name)
+                .description("Descripción de " + name)
+                .build();
+    }
+}
@@ -46,8 +46,7 @@ class RegisterTechnologyUseCaseTest {
                 .description("Lenguaje de programación orientado a objetos")
                 .build();
 
-        given(technologyRepository.existsByName("Java")).willReturn(Mono.just(false));
-        given(technologyRepository.save(any(Technology.class))).willReturn(Mono.just(savedTechnology));
+        given(technologyRepository.saveIfNameAbsent(any(Technology.class))).willReturn(Mono.just(savedTechnology));
 
         // When
         Mono<Technology> result = registerTechnologyUseCase.execute(technology);
@@ -61,14 +60,14 @@ class RegisterTechnologyUseCaseTest {
                 })
                 .verifyComplete();
 
-        verify(technologyRepository).existsByName("Java");
-        verify(technologyRepository).save(any(Technology.class));
+        verify(technologyRepository).saveIfNameAbsent(technology);
+        verify(technologyRepository, never()).existsByName(any());
     }
 
     @Test
     void shouldThrowBusinessExceptionWhenTechnologyNameAlreadyExists() {
         // Given
-        given(technologyRepository.existsByName("Java")).willReturn(Mono.just(true));
+        given(technologyRepository.saveIfNameAbsent(any(Technology.class))).willReturn(Mono.empty());
 
         // When
         Mono<Technology> result = registerTechnologyUseCase.execute(technology);
@@ -82,34 +81,14 @@ class RegisterTechnologyUseCaseTest {
                 })
                 .verify();
 
-        verify(technologyRepository).existsByName("Java");
-        verify(technologyRepository, never()).save(any(Technology.class));
-    }
-
-    @Test
-    void shouldHandleRepositoryErrorWhenCheckingExistence() {
-        // Given
-        RuntimeException repositoryError = new RuntimeException("Database connection error");
-        given(technologyRepository.existsByName("Java")).willReturn(Mono.error(repositoryError));
-
-        // When
-        Mono<Technology> result = registerTechnologyUseCase.execute(technology);
-
-        // Then
-        StepVerifier.create(result)
-                .expectError(RuntimeException.class)
-                .verify();
-
-        verify(technologyRepository).existsByName("Java");
-        verify(technologyRepository, never()).save(any(Technology.class));
+        verify(technologyRepository).saveIfNameAbsent(technology);
     }
 
     @Test
     void shouldHandleRepositoryErrorWhenSaving() {
         // Given
         RuntimeException repositoryError = new RuntimeException("Database save error");
-        given(technologyRepository.existsByName("Java")).willReturn(Mono.just(false));
-        given(technologyRepository.save(any(Technology.class))).willReturn(Mono.error(repositoryError));
+        given(technologyRepository.saveIfNameAbsent(any(Technology.class))).willReturn(Mono.error(repositoryError));
 
         // When
         Mono<Technology> result = registerTechnologyUseCase.execute(technology);
@@ -119,8 +98,7 @@ class RegisterTechnologyUseCaseTest {
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(technologyRepository).existsByName("Java");
-        verify(technologyRepository).save(any(Technology.class));
+        verify(technologyRepository).saveIfNameAbsent(technology);
+        verify(technologyRepository, never()).save(any(Technology.class));
     }
 }
-
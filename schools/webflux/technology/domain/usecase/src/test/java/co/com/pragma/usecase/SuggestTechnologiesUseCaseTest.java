@@ -0,0 +1,67 @@
+package co.com.pragma.usecase;
+
+import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.gateways.TechnologyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestTechnologiesUseCaseTest {
+
+    @Mock
+    private TechnologyRepository technologyRepository;
+
+    @InjectMocks
+    private SuggestTechnologiesUseCase suggestTechnologiesUseCase;
+
+    @Test
+    @DisplayName("Should return the technologies matching the prefix")
+    void executeSuccess() {
+        // Arrange
+        when(technologyRepository.suggestByPrefix("ja", 5)).thenReturn(Flux.just(
+                Technology.builder().id("1").name("Java").build(),
+                Technology.builder().id("2").name("JavaScript").build()));
+
+        // Act & Assert
+        StepVerifier.create(suggestTechnologiesUseCase.execute(" ja ", 5))
+                .expectNextMatches(technology -> technology.getName().equals("Java"))
+                .expectNextMatches(technology -> technology.getName().equals("JavaScript"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should cap the number of suggestions")
+    void executeCapsLimit() {
+        // Arrange
+        when(technologyRepository.suggestByPrefix("j", SuggestTechnologiesUseCase.MAX_LIMIT)).thenReturn(Flux.empty());
+        when(technologyRepository.suggestByPrefix("j", 1)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(suggestTechnologiesUseCase.execute("j", 1_000)).verifyComplete();
+        StepVerifier.create(suggestTechnologiesUseCase.execute("j", 0)).verifyComplete();
+
+        verify(technologyRepository).suggestByPrefix("j", SuggestTechnologiesUseCase.MAX_LIMIT);
+        verify(technologyRepository).suggestByPrefix("j", 1);
+    }
+
+    @Test
+    @DisplayName("Should not query the repository for a blank prefix")
+    void executeBlankPrefix() {
+        // Act & Assert
+        StepVerifier.create(suggestTechnologiesUseCase.execute("  ", 10)).verifyComplete();
+
+        verify(technologyRepository, never()).suggestByPrefix(anyString(), anyInt());
+    }
+}
@@ -1,46 +1,323 @@
 package co.com.pragma.r2dbc.adapters;
 
 import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyChange;
+import co.com.pragma.model.technology.TechnologyChanges;
+import co.com.pragma.model.technology.TechnologyPage;
 import co.com.pragma.model.technology.gateways.TechnologyRepository;
 import co.com.pragma.r2dbc.entity.TechnologyEntity;
 import co.com.pragma.r2dbc.mappers.TechnologyR2dbcMapper;
+import co.com.pragma.r2dbc.providers.TechnologySQLProvider;
 import co.com.pragma.r2dbc.repositories.TechnologyReactiveRepository;
+import co.com.pragma.r2dbc.utils.KeysetCursor;
+import co.com.pragma.r2dbc.utils.TechnologyNameIndex;
+import co.com.pragma.r2dbc.utils.TechnologyNameIndex.Presence;
+import co.com.pragma.r2dbc.utils.TechnologyPrefixIndex;
+import io.r2dbc.spi.Row;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Repository
+@Slf4j
 @RequiredArgsConstructor
 public class TechnologyR2dbcAdapter implements TechnologyRepository {
 
+    private static final int IDS_CHUNK_SIZE = 1000;
+    private static final int IDS_CHUNK_CONCURRENCY = 4;
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final TechnologyReactiveRepository technologyReactiveRepository;
     private final TechnologyR2dbcMapper technologyR2dbcMapper;
+    private final DatabaseClient databaseClient;
+    private final TechnologySQLProvider sqlProvider;
+    private final TechnologyNameIndex nameIndex;
+    private final TechnologyPrefixIndex prefixIndex;
 
     @Override
     public Mono<Technology> save(Technology technology) {
         TechnologyEntity entity = technologyR2dbcMapper.toEntity(technology);
         return technologyReactiveRepository.save(entity)
-                .map(technologyR2dbcMapper::toDomain);
+                .map(technologyR2dbcMapper::toDomain)
+                .doOnNext(saved -> {
+                    nameIndex.recordPresent(saved.getName());
+                    prefixIndex.add(saved);
+                });
+    }
+
+    @Override
+    public Mono<Technology> saveIfNameAbsent(Technology technology) {
+        Presence presence = nameIndex.lookup(technology.getName());
+        if (presence == Presence.PRESENT) {
+            log.debug("Technology name rejected by name index, name={}", technology.getName());
+            return Mono.empty();
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sqlProvider.insertTechnologyIfNameAbsent())
+                .bind("name", technology.getName());
+        spec = technology.getDescription() != null
+                ? spec.bind("description", technology.getDescription())
+                : spec.bindNull("description", String.class);
+
+        return spec.map((row, metadata) -> toEntity(row))
+                .one()
+                .map(technologyR2dbcMapper::toDomain)
+                .doOnNext(prefixIndex::add)
+                .doOnSuccess(saved -> {
+                    // Un posible positivo del filtro de Bloom que se insertó sin conflicto es un falso positivo
+                    if (saved != null && presence == Presence.UNKNOWN) {
+                        nameIndex.recordAbsent(technology.getName());
+                    }
+                    // Con o sin conflicto, el nombre queda registrado
+                    nameIndex.recordPresent(technology.getName());
+                })
+                .doOnError(error -> log.error("Error saving technology, name={}", technology.getName(), error));
     }
 
     @Override
     public Mono<Boolean> existsByName(String name) {
-        return technologyReactiveRepository.existsByName(name);
+        Presence presence = nameIndex.lookup(name);
+        if (presence != Presence.UNKNOWN) {
+            return Mono.just(presence == Presence.PRESENT);
+        }
+        return technologyReactiveRepository.existsByName(name)
+                .doOnNext(exists -> {
+                    if (Boolean.TRUE.equals(exists)) {
+                        nameIndex.recordPresent(name);
+                    } else {
+                        nameIndex.recordAbsent(name);
+                    }
+                });
+    }
+
+    @Override
+    public Flux<Technology> saveAll(List<Technology> technologies) {
+        String[] names = technologies.stream()
+                .map(Technology::getName)
+                .toArray(String[]::new);
+        String[] descriptions = technologies.stream()
+                .map(Technology::getDescription)
+                .toArray(String[]::new);
+
+        return databaseClient.sql(sqlProvider.insertTechnologies())
+                .bind("names", names)
+                .bind("descriptions", descriptions)
+                .map((row, metadata) -> toEntity(row))
+                .all()
+                .map(technologyR2dbcMapper::toDomain)
+                .doOnNext(saved -> {
+                    nameIndex.recordPresent(saved.getName());
+                    prefixIndex.add(saved);
+                })
+                .doOnError(error -> log.error("Error saving technologies batch, size={}", names.length, error));
+    }
+
+    @Override
+    public Flux<String> findExistingNames(List<String> names) {
+        Map<Presence, List<String>> namesByPresence = names.stream()
+                .collect(Collectors.groupingBy(nameIndex::lookup));
+        List<String> knownNames = namesByPresence.getOrDefault(Presence.PRESENT, List.of());
+        List<String> uncertainNames = namesByPresence.getOrDefault(Presence.UNKNOWN, List.of());
+        log.debug("Finding existing technology names, size={}, known={}, toQuery={}",
+                names.size(), knownNames.size(), uncertainNames.size());
+
+        if (uncertainNames.isEmpty()) {
+            return Flux.fromIterable(knownNames);
+        }
+
+        Flux<String> foundNames = databaseClient.sql(sqlProvider.findExistingNames())
+                .bind("names", uncertainNames.toArray(String[]::new))
+                .map((row, metadata) -> row.get("name", String.class))
+                .all()
+                .collectList()
+                .doOnNext(found -> {
+                    found.forEach(nameIndex::recordPresent);
+                    uncertainNames.stream()
+                            .filter(name -> !found.contains(name))
+                            .forEach(nameIndex::recordAbsent);
+                })
+                .flatMapIterable(found -> found)
+                .doOnError(error -> log.error("Error finding existing technology names, size={}", names.size(), error));
+
+        return Flux.fromIterable(knownNames).concatWith(foundNames);
     }
 
     @Override
     public Flux<Technology> findAllByIds(List<Long> ids) {
-        return technologyReactiveRepository.findAllById(ids)
-                .map(technologyR2dbcMapper::toDomain);
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        log.debug("Finding technologies by ids, requested={}, distinct={}", ids.size(), distinctIds.size());
+
+        return Flux.fromIterable(distinctIds)
+                .buffer(IDS_CHUNK_SIZE)
+                .flatMap(this::findChunkByIds, IDS_CHUNK_CONCURRENCY)
+                .map(technologyR2dbcMapper::toDomain)
+                .doOnError(error -> log.error("Error finding technologies by ids, size={}", distinctIds.size(), error));
     }
 
     @Override
     public Mono<Void> deleteById(Long id) {
-        return technologyReactiveRepository.deleteById(id);
+        return databaseClient.sql(sqlProvider.deleteTechnologyById())
+                .bind("id", id)
+                .map((row, metadata) -> row.get("name", String.class))
+                .one()
+                .doOnNext(name -> {
+                    nameIndex.remove(name);
+                    prefixIndex.remove(name, id);
+                })
+                .doOnError(error -> log.error("Error deleting technology, id={}", id, error))
+                .then();
     }
-}
 
+    @Override
+    public Flux<Long> deleteAllByIdsExcept(List<Long> ids, List<Long> referencedIds) {
+        return databaseClient.sql(sqlProvider.deleteTechnologiesByIdsExcept())
+                .bind("ids", ids.toArray(Long[]::new))
+                .bind("referencedIds", referencedIds.toArray(Long[]::new))
+                .map((row, metadata) -> TechnologyEntity.builder()
+                        .id(row.get("id", Long.class))
+                        .name(row.get("name", String.class))
+                        .build())
+                .all()
+                .doOnNext(deleted -> {
+                    nameIndex.remove(deleted.getName());
+                    prefixIndex.remove(deleted.getName(), deleted.getId());
+                })
+                .map(TechnologyEntity::getId)
+                .doOnError(error -> log.error("Error deleting technologies, size={}", ids.size(), error));
+    }
+
+    @Override
+    public Mono<TechnologyPage> findPage(String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        return findBatch(after, size + 1)
+                .map(entities -> {
+                    boolean hasNext = entities.size() > size;
+                    List<TechnologyEntity> pageEntities = hasNext ? entities.subList(0, size) : entities;
+                    String nextCursor = hasNext
+                            ? toCursor(pageEntities.get(pageEntities.size() - 1)).encode()
+                            : null;
+
+                    return TechnologyPage.builder()
+                            .items(pageEntities.stream().map(technologyR2dbcMapper::toDomain).toList())
+                            .nextCursor(nextCursor)
+                            .build();
+                })
+                .doOnError(error -> log.error("Error finding technologies page, size={}", size, error));
+    }
+
+    @Override
+    public Flux<Technology> streamAll(String cursor) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        return findBatch(after, STREAM_BATCH_SIZE)
+                .expand(batch -> batch.size() < STREAM_BATCH_SIZE
+                        ? Mono.empty()
+                        : findBatch(toCursor(batch.get(batch.size() - 1)), STREAM_BATCH_SIZE))
+                .flatMapIterable(batch -> batch)
+                .map(technologyR2dbcMapper::toDomain)
+                .doOnError(error -> log.error("Error streaming technologies", error));
+    }
 
+    @Override
+    public Flux<Technology> suggestByPrefix(String prefix, int limit) {
+        if (prefixIndex.isReady()) {
+            return Flux.fromIterable(prefixIndex.suggest(prefix, limit));
+        }
+
+        log.debug("Technology prefix index not loaded, querying database, prefix={}", prefix);
+        return databaseClient.sql(sqlProvider.suggestTechnologiesByPrefix())
+                .bind("pattern", escapeLike(prefix) + "%")
+                .bind("limit", limit)
+                .map((row, metadata) -> Technology.builder()
+                        .id(String.valueOf(row.get("id", Long.class)))
+                        .name(row.get("name", String.class))
+                        .build())
+                .all()
+                .doOnError(error -> log.error("Error suggesting technologies, prefix={}", prefix, error));
+    }
+
+    @Override
+    public Mono<TechnologyChanges> findChangesSince(long since, int limit) {
+        return databaseClient.sql(sqlProvider.findTechnologyChanges())
+                .bind("since", since)
+                .bind("limit", limit + 1)
+                .map((row, metadata) -> TechnologyChange.builder()
+                        .id(row.get("id", Long.class))
+                        .name(row.get("name", String.class))
+                        .version(row.get("change_version", Long.class))
+                        .deleted(Boolean.TRUE.equals(row.get("deleted", Boolean.class)))
+                        .build())
+                .all()
+                .collectList()
+                .map(changes -> {
+                    boolean hasMore = changes.size() > limit;
+                    List<TechnologyChange> slice = hasMore ? changes.subList(0, limit) : changes;
+                    long version = slice.isEmpty() ? since : slice.get(slice.size() - 1).getVersion();
+
+                    return TechnologyChanges.builder()
+                            .changes(slice)
+                            .version(version)
+                            .hasMore(hasMore)
+                            .build();
+                })
+                .doOnError(error -> log.error("Error finding technology changes, since={}", since, error));
+    }
+
+    @Override
+    public Mono<Long> findPurgedVersion() {
+        return databaseClient.sql(sqlProvider.findPurgedVersion())
+                .map((row, metadata) -> row.get("purged_version", Long.class))
+                .one()
+                .defaultIfEmpty(0L)
+                .doOnError(error -> log.error("Error finding technology feed purged version", error));
+    }
+
+    private Mono<List<TechnologyEntity>> findBatch(KeysetCursor after, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sqlProvider.findTechnologiesPage(after != null))
+                .bind("limit", limit);
+        if (after != null) {
+            spec = spec.bind("lastName", after.name())
+                    .bind("lastId", after.id());
+        }
+        return spec.map((row, metadata) -> toEntity(row))
+                .all()
+                .collectList();
+    }
+
+    private KeysetCursor toCursor(TechnologyEntity last) {
+        return new KeysetCursor(last.getId(), last.getName());
+    }
+
+    private Flux<TechnologyEntity> findChunkByIds(List<Long> chunk) {
+        return databaseClient.sql(sqlProvider.findTechnologiesByIds())
+                .bind("ids", chunk.toArray(Long[]::new))
+                .map((row, metadata) -> toEntity(row))
+                .all();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private TechnologyEntity toEntity(Row row) {
+        return TechnologyEntity.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .build();
+    }
+}
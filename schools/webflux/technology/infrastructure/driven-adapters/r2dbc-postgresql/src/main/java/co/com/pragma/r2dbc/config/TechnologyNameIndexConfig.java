@@ -0,0 +1,54 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.utils.TechnologyNameIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+@Configuration
+public class TechnologyNameIndexConfig {
+
+    private static final String METRIC_PREFIX = "technology.name.index";
+
+    /**
+     * Índice de nombres para validar duplicados sin consultar la base de datos; expone las métricas
+     * technology.name.index.false.positive.rate{type=expected|observed} y technology.name.index.memory
+     */
+    @Bean
+    public TechnologyNameIndex technologyNameIndex(
+            DatabaseClient client,
+            MeterRegistry meterRegistry,
+            @Value("${adapter.r2dbc.technologyNameIndex.enabled:true}") boolean enabled,
+            @Value("${adapter.r2dbc.technologyNameIndex.expectedNames:100000}") long expectedNames,
+            @Value("${adapter.r2dbc.technologyNameIndex.falsePositiveRate:0.01}") double falsePositiveRate,
+            @Value("${adapter.r2dbc.technologyNameIndex.recentNames.maximumSize:10000}") int recentNamesSize,
+            @Value("${adapter.r2dbc.technologyNameIndex.recentNames.ttl:1m}") Duration recentNamesTtl,
+            @Value("${adapter.r2dbc.technologyNameIndex.refresh:10m}") Duration refresh
+    ) {
+        TechnologyNameIndex index = new TechnologyNameIndex(client, enabled, expectedNames, falsePositiveRate,
+                recentNamesSize, recentNamesTtl, refresh);
+
+        Gauge.builder(METRIC_PREFIX + ".false.positive.rate", index, TechnologyNameIndex::expectedFalsePositiveRate)
+                .tag("type", "expected")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".false.positive.rate", index, TechnologyNameIndex::observedFalsePositiveRate)
+                .tag("type", "observed")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".memory", index, TechnologyNameIndex::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        return index;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTechnologyNameIndex(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBean(TechnologyNameIndex.class).start();
+    }
+}
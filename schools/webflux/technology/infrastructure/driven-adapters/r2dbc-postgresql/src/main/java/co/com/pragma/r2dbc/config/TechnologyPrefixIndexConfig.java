@@ -0,0 +1,43 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.mappers.TechnologyR2dbcMapper;
+import co.com.pragma.r2dbc.repositories.TechnologyReactiveRepository;
+import co.com.pragma.r2dbc.utils.TechnologyPrefixIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+
+@Configuration
+public class TechnologyPrefixIndexConfig {
+
+    /**
+     * Índice de prefijos para sugerir nombres de tecnologías sin consultar la base de datos; expone la métrica
+     * technology.prefix.index.size
+     */
+    @Bean
+    public TechnologyPrefixIndex technologyPrefixIndex(
+            TechnologyReactiveRepository technologyReactiveRepository,
+            TechnologyR2dbcMapper technologyR2dbcMapper,
+            MeterRegistry meterRegistry,
+            @Value("${adapter.r2dbc.technologyPrefixIndex.enabled:true}") boolean enabled,
+            @Value("${adapter.r2dbc.technologyPrefixIndex.refresh:10m}") Duration refresh
+    ) {
+        TechnologyPrefixIndex index = new TechnologyPrefixIndex(
+                () -> technologyReactiveRepository.findAll().map(technologyR2dbcMapper::toDomain), enabled, refresh);
+
+        Gauge.builder("technology.prefix.index.size", index, TechnologyPrefixIndex::size)
+                .register(meterRegistry);
+        return index;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTechnologyPrefixIndex(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBean(TechnologyPrefixIndex.class).start();
+    }
+}
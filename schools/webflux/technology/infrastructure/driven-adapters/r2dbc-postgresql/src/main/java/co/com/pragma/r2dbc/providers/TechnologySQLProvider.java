@@ -0,0 +1,157 @@
+package co.com.pragma.r2dbc.providers;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class TechnologySQLProvider {
+
+    /**
+     * Query SQL para registrar una tecnología solo si su nombre no existe; no retorna filas si el nombre
+     * ya está registrado. Requiere el índice único de db/technology_unique_name.sql
+     * @return SQL INSERT statement
+     */
+    public String insertTechnologyIfNameAbsent() {
+        return """
+                INSERT INTO technologies (name, description)
+                VALUES (:name, :description)
+                ON CONFLICT (name) DO NOTHING
+                RETURNING id, name, description
+                """;
+    }
+
+    /**
+     * Query SQL para registrar varias tecnologías en una sola sentencia a partir de arreglos paralelos
+     * de nombres y descripciones; omite los nombres registrados de forma concurrente
+     * @return SQL INSERT statement
+     */
+    public String insertTechnologies() {
+        return """
+                INSERT INTO technologies (name, description)
+                SELECT t.name, t.description
+                FROM UNNEST(:names, :descriptions) AS t(name, description)
+                ON CONFLICT (name) DO NOTHING
+                RETURNING id, name, description
+                """;
+    }
+
+    /**
+     * Query SQL para consultar cuáles de los nombres indicados ya están registrados
+     * @return SQL SELECT statement
+     */
+    public String findExistingNames() {
+        return """
+                SELECT name
+                FROM technologies
+                WHERE name = ANY(:names)
+                """;
+    }
+
+    /**
+     * Query SQL para consultar tecnologías por IDs con un único parámetro bigint[]; el texto de la sentencia
+     * no depende de la cantidad de IDs, por lo que se reutiliza la sentencia preparada
+     * @return SQL SELECT statement
+     */
+    public String findTechnologiesByIds() {
+        return """
+                SELECT id, name, description
+                FROM technologies
+                WHERE id = ANY(:ids)
+                """;
+    }
+
+    /**
+     * Query SQL para consultar una página de tecnologías por keyset (name, id).
+     * Usa el índice (name, id) de db/technology_keyset_pagination.sql
+     * @param hasCursor true si se filtra a partir de :lastName y :lastId
+     * @return SQL SELECT statement
+     */
+    public String findTechnologiesPage(boolean hasCursor) {
+        String seek = hasCursor ? "WHERE (name, id) > (:lastName, :lastId)" : "";
+        return """
+                SELECT id, name, description
+                FROM technologies
+                %s
+                ORDER BY name, id
+                LIMIT :limit
+                """.formatted(seek);
+    }
+
+    /**
+     * Query SQL para sugerir tecnologías cuyo nombre empieza por :pattern sin distinguir mayúsculas;
+     * solo se usa mientras el índice de prefijos no está cargado
+     * @return SQL SELECT statement
+     */
+    public String suggestTechnologiesByPrefix() {
+        return """
+                SELECT id, name
+                FROM technologies
+                WHERE name ILIKE :pattern ESCAPE '\\'
+                ORDER BY lower(name), id
+                LIMIT :limit
+                """;
+    }
+
+    /**
+     * Query SQL para consultar el feed de cambios posteriores a :since: tecnologías vigentes con su versión
+     * y marcas de eliminación, en orden de versión. Requiere db/technology_change_feed.sql
+     * @return SQL SELECT statement
+     */
+    public String findTechnologyChanges() {
+        return """
+                SELECT id, name, change_version, deleted
+                FROM (
+                    SELECT id, name, change_version, false AS deleted
+                    FROM technologies
+                    WHERE change_version > :since
+                    UNION ALL
+                    SELECT id, NULL AS name, change_version, true AS deleted
+                    FROM technology_tombstones
+                    WHERE change_version > :since
+                ) changes
+                ORDER BY change_version
+                LIMIT :limit
+                """;
+    }
+
+    /**
+     * Query SQL para consultar la mayor versión de las marcas de eliminación depuradas.
+     * Requiere db/technology_change_feed.sql
+     * @return SQL SELECT statement
+     */
+    public String findPurgedVersion() {
+        return """
+                SELECT COALESCE(MAX(purged_version), 0) AS purged_version
+                FROM technology_feed_horizon
+                """;
+    }
+
+    /**
+     * Query SQL para eliminar una tecnología retornando su nombre
+     * @return SQL DELETE statement
+     */
+    public String deleteTechnologyById() {
+        return """
+                DELETE FROM technologies
+                WHERE id = :id
+                RETURNING name
+                """;
+    }
+
+    /**
+     * Query SQL para eliminar en una sola sentencia las tecnologías indicadas que no están en la lista de
+     * referenciadas (anti-join con NOT EXISTS); retorna el ID y nombre de las eliminadas
+     * @return SQL DELETE statement
+     */
+    public String deleteTechnologiesByIdsExcept() {
+        return """
+                DELETE FROM technologies t
+                WHERE t.id = ANY(:ids)
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM UNNEST(:referencedIds) AS r(id)
+                      WHERE r.id = t.id
+                  )
+                RETURNING t.id, t.name
+                """;
+    }
+}
@@ -0,0 +1,201 @@
+package co.com.pragma.r2dbc.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice en memoria de nombres de tecnologías: un filtro de Bloom con todos los nombres registrados y un
+ * conjunto exacto (LRU con TTL) de nombres vistos recientemente.
+ * - PRESENT: el nombre está en el conjunto exacto; se rechaza sin consultar la base de datos
+ * - ABSENT: el filtro de Bloom garantiza que el nombre no estaba registrado al cargar el índice
+ * - UNKNOWN: posible positivo o índice sin cargar; se consulta la base de datos
+ * Las escrituras de otras réplicas no se reflejan hasta la siguiente reconstrucción; ABSENT puede quedar
+ * desactualizado (las inserciones siguen protegidas por ON CONFLICT) y PRESENT puede sobrevivir a una
+ * eliminación remota como máximo el TTL del conjunto exacto
+ */
+@Slf4j
+public class TechnologyNameIndex {
+
+    public enum Presence {
+        PRESENT,
+        ABSENT,
+        UNKNOWN
+    }
+
+    private static final String LOAD_SQL = """
+            SELECT name
+            FROM technologies
+            """;
+
+    private final DatabaseClient client;
+    private final boolean enabled;
+    private final long expectedNames;
+    private final double falsePositiveRate;
+    private final int recentNamesSize;
+    private final Duration recentNamesTtl;
+    private final Duration refreshInterval;
+
+    private final Map<String, Long> recentNames;
+    private final AtomicLong possiblePositives = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private BloomFilter names;
+    private BloomFilter rebuilding;
+    private Disposable refresher;
+
+    public TechnologyNameIndex(DatabaseClient client, boolean enabled, long expectedNames, double falsePositiveRate,
+                               int recentNamesSize, Duration recentNamesTtl, Duration refreshInterval) {
+        this.client = client;
+        this.enabled = enabled;
+        this.expectedNames = expectedNames;
+        this.falsePositiveRate = falsePositiveRate;
+        this.recentNamesSize = recentNamesSize;
+        this.recentNamesTtl = recentNamesTtl;
+        this.refreshInterval = refreshInterval;
+        this.recentNames = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > TechnologyNameIndex.this.recentNamesSize;
+            }
+        };
+    }
+
+    /**
+     * Carga el índice y programa su reconstrucción periódica; sin habilitar, todas las consultas van a base de datos
+     */
+    public synchronized void start() {
+        if (!enabled || refresher != null) {
+            return;
+        }
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> rebuild()
+                        .onErrorResume(error -> {
+                            log.error("Error loading technology name index", error);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    public synchronized void close() {
+        if (refresher != null) {
+            refresher.dispose();
+            refresher = null;
+        }
+    }
+
+    public synchronized Presence lookup(String name) {
+        Long seenAt = recentNames.get(name);
+        if (seenAt != null) {
+            if (System.nanoTime() - seenAt < recentNamesTtl.toNanos()) {
+                return Presence.PRESENT;
+            }
+            recentNames.remove(name);
+        }
+        if (names == null) {
+            return Presence.UNKNOWN;
+        }
+        if (!names.mightContain(name)) {
+            return Presence.ABSENT;
+        }
+        possiblePositives.incrementAndGet();
+        return Presence.UNKNOWN;
+    }
+
+    /**
+     * Registra un nombre confirmado como existente
+     */
+    public synchronized void recordPresent(String name) {
+        recentNames.put(name, System.nanoTime());
+        if (names != null && !names.mightContain(name)) {
+            names.put(name);
+        }
+        if (rebuilding != null && !rebuilding.mightContain(name)) {
+            rebuilding.put(name);
+        }
+    }
+
+    /**
+     * Registra un nombre que la base de datos confirmó como inexistente; si el filtro de Bloom lo daba como
+     * posible positivo se cuenta como falso positivo
+     */
+    public synchronized void recordAbsent(String name) {
+        if (names != null && names.mightContain(name)) {
+            falsePositives.incrementAndGet();
+        }
+    }
+
+    /**
+     * Quita un nombre eliminado del conjunto exacto; el filtro de Bloom lo conserva hasta la siguiente reconstrucción
+     */
+    public synchronized void remove(String name) {
+        recentNames.remove(name);
+    }
+
+    /**
+     * Proporción de posibles positivos del filtro de Bloom que la base de datos no confirmó
+     */
+    public double observedFalsePositiveRate() {
+        long positives = possiblePositives.get();
+        return positives == 0 ? 0.0 : (double) falsePositives.get() / positives;
+    }
+
+    public synchronized double expectedFalsePositiveRate() {
+        return names != null ? names.expectedFalsePositiveRate() : 0.0;
+    }
+
+    /**
+     * Memoria aproximada: bits del filtro de Bloom más el conjunto exacto (cadena y entrada del mapa por nombre)
+     */
+    public synchronized long memoryBytes() {
+        long bloomBytes = names != null ? names.sizeInBytes() : 0L;
+        long recentBytes = recentNames.keySet().stream()
+                .mapToLong(name -> 96L + 2L * name.length())
+                .sum();
+        return bloomBytes + recentBytes;
+    }
+
+    private Mono<Void> rebuild() {
+        return Mono.defer(() -> {
+            BloomFilter next = startRebuild();
+            return client.sql(LOAD_SQL)
+                    .map((row, metadata) -> row.get("name", String.class))
+                    .all()
+                    .doOnNext(name -> putRebuilding(next, name))
+                    .then(Mono.fromRunnable(() -> finishRebuild(next)))
+                    .doOnError(error -> abortRebuild(next))
+                    .then();
+        });
+    }
+
+    private synchronized BloomFilter startRebuild() {
+        long capacity = Math.max(expectedNames, names != null ? 2 * names.insertions() : 0L);
+        rebuilding = new BloomFilter(capacity, falsePositiveRate);
+        return rebuilding;
+    }
+
+    private synchronized void putRebuilding(BloomFilter next, String name) {
+        next.put(name);
+    }
+
+    private synchronized void finishRebuild(BloomFilter next) {
+        if (rebuilding == next) {
+            names = next;
+            rebuilding = null;
+            log.debug("Technology name index loaded, names={}", next.insertions());
+        }
+    }
+
+    private synchronized void abortRebuild(BloomFilter next) {
+        if (rebuilding == next) {
+            rebuilding = null;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package co.com.pragma.r2dbc.utils;
+
+import co.com.pragma.model.technology.Technology;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * Índice ordenado en memoria de nombres de tecnologías para el autocompletado por prefijo.
+ * Las claves son "nombre en minúsculas\0id", de modo que las coincidencias de un prefijo forman un rango
+ * contiguo del mapa: la búsqueda cuesta O(log n + k) y retorna en orden alfabético sin consultar la base de datos.
+ * Se mantiene al registrar y eliminar tecnologías en esta instancia; las escrituras de otras réplicas
+ * se reflejan en la siguiente reconstrucción
+ */
+@Slf4j
+public class TechnologyPrefixIndex {
+
+    private static final char KEY_SEPARATOR = '\0';
+
+    private final Supplier<Flux<Technology>> loader;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+
+    private volatile NavigableMap<String, Technology> technologies;
+    private NavigableMap<String, Technology> rebuilding;
+    private Disposable refresher;
+
+    public TechnologyPrefixIndex(Supplier<Flux<Technology>> loader, boolean enabled, Duration refreshInterval) {
+        this.loader = loader;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Carga el índice y programa su reconstrucción periódica; sin habilitar, las sugerencias van a base de datos
+     */
+    public synchronized void start() {
+        if (!enabled || refresher != null) {
+            return;
+        }
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> rebuild()
+                        .onErrorResume(error -> {
+                            log.error("Error loading technology prefix index", error);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    public synchronized void close() {
+        if (refresher != null) {
+            refresher.dispose();
+            refresher = null;
+        }
+    }
+
+    public boolean isReady() {
+        return technologies != null;
+    }
+
+    /**
+     * @return hasta limit tecnologías cuyo nombre empieza por el prefijo, sin distinguir mayúsculas y en orden alfabético
+     */
+    public List<Technology> suggest(String prefix, int limit) {
+        String from = normalize(prefix);
+        return technologies.subMap(from, true, from + Character.MAX_VALUE, false)
+                .values()
+                .stream()
+                .limit(limit)
+                .toList();
+    }
+
+    public synchronized void add(Technology technology) {
+        Technology entry = toEntry(technology);
+        if (technologies != null) {
+            technologies.put(key(entry.getName(), entry.getId()), entry);
+        }
+        if (rebuilding != null) {
+            rebuilding.put(key(entry.getName(), entry.getId()), entry);
+        }
+    }
+
+    public synchronized void remove(String name, Long id) {
+        String key = key(name, String.valueOf(id));
+        if (technologies != null) {
+            technologies.remove(key);
+        }
+        if (rebuilding != null) {
+            rebuilding.remove(key);
+        }
+    }
+
+    public int size() {
+        NavigableMap<String, Technology> current = technologies;
+        return current != null ? current.size() : 0;
+    }
+
+    private Mono<Void> rebuild() {
+        return Mono.defer(() -> {
+            NavigableMap<String, Technology> next = startRebuild();
+            return loader.get()
+                    .doOnNext(technology -> putRebuilding(next, technology))
+                    .then(Mono.fromRunnable(() -> finishRebuild(next)))
+                    .doOnError(error -> abortRebuild(next))
+                    .then();
+        });
+    }
+
+    private synchronized NavigableMap<String, Technology> startRebuild() {
+        rebuilding = new ConcurrentSkipListMap<>();
+        return rebuilding;
+    }
+
+    /**
+     * Una baja aplicada durante la reconstrucción puede llegar antes que la fila leída; la siguiente la corrige
+     */
+    private synchronized void putRebuilding(NavigableMap<String, Technology> next, Technology technology) {
+        Technology entry = toEntry(technology);
+        next.putIfAbsent(key(entry.getName(), entry.getId()), entry);
+    }
+
+    private synchronized void finishRebuild(NavigableMap<String, Technology> next) {
+        if (rebuilding == next) {
+            technologies = next;
+            rebuilding = null;
+            log.debug("Technology prefix index loaded, technologies={}", next.size());
+        }
+    }
+
+    private synchronized void abortRebuild(NavigableMap<String, Technology> next) {
+        if (rebuilding == next) {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * Solo se conservan ID y nombre para acotar la memoria del índice
+     */
+    private static Technology toEntry(Technology technology) {
+        return Technology.builder()
+                .id(technology.getId())
+                .name(technology.getName())
+                .build();
+    }
+
+    private static String key(String name, String id) {
+        return normalize(name) + KEY_SEPARATOR + id;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,83 @@
+-- Soporte para el feed de cambios de GET /api/v1/technologies/changes (ver TechnologySQLProvider.findTechnologyChanges)
+
+-- Versión de cambio monotónica compartida por altas, modificaciones y eliminaciones
+CREATE SEQUENCE IF NOT EXISTS technology_change_version_seq;
+
+ALTER TABLE technologies ADD COLUMN IF NOT EXISTS change_version BIGINT;
+UPDATE technologies SET change_version = nextval('technology_change_version_seq') WHERE change_version IS NULL;
+ALTER TABLE technologies ALTER COLUMN change_version SET NOT NULL;
+
+-- Marcas de eliminación: una fila por tecnología eliminada con la versión de su eliminación
+CREATE TABLE IF NOT EXISTS technology_tombstones (
+    id             BIGINT PRIMARY KEY,
+    change_version BIGINT      NOT NULL,
+    deleted_at     TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_technologies_change_version ON technologies (change_version);
+CREATE INDEX IF NOT EXISTS idx_technology_tombstones_change_version ON technology_tombstones (change_version);
+
+-- El bloqueo asesor de transacción serializa las escrituras del catálogo hasta el commit, de modo que las
+-- versiones se confirman en orden: un lector que ya leyó hasta la versión N nunca verá aparecer después
+-- una versión menor que N
+CREATE OR REPLACE FUNCTION technology_stamp_change() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('technology_change_version'));
+    NEW.change_version := nextval('technology_change_version_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION technology_record_tombstone() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('technology_change_version'));
+    INSERT INTO technology_tombstones (id, change_version)
+    VALUES (OLD.id, nextval('technology_change_version_seq'))
+    ON CONFLICT (id) DO UPDATE SET change_version = EXCLUDED.change_version, deleted_at = now();
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_technologies_stamp_change ON technologies;
+CREATE TRIGGER trg_technologies_stamp_change
+    BEFORE INSERT OR UPDATE ON technologies
+    FOR EACH ROW EXECUTE FUNCTION technology_stamp_change();
+
+DROP TRIGGER IF EXISTS trg_technologies_record_tombstone ON technologies;
+CREATE TRIGGER trg_technologies_record_tombstone
+    AFTER DELETE ON technologies
+    FOR EACH ROW EXECUTE FUNCTION technology_record_tombstone();
+
+ANALYZE technologies;
+
+-- Horizonte de depuración: mayor versión de las marcas de eliminación ya borradas. Una réplica cuya versión
+-- sea menor pudo perder eliminaciones, y el feed le indica que debe reconstruirse desde since=0
+CREATE TABLE IF NOT EXISTS technology_feed_horizon (
+    id             SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    purged_version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO technology_feed_horizon (id, purged_version) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+-- Depura las marcas de eliminación más antiguas que retention y adelanta el horizonte en la misma transacción
+CREATE OR REPLACE FUNCTION technology_purge_tombstones(retention INTERVAL) RETURNS BIGINT AS $$
+DECLARE
+    purged BIGINT;
+BEGIN
+    WITH deleted AS (
+        DELETE FROM technology_tombstones
+        WHERE deleted_at < now() - retention
+        RETURNING change_version
+    )
+    SELECT MAX(change_version) INTO purged FROM deleted;
+
+    IF purged IS NOT NULL THEN
+        UPDATE technology_feed_horizon
+        SET purged_version = GREATEST(purged_version, purged)
+        WHERE id = 1;
+    END IF;
+    RETURN COALESCE(purged, 0);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Programar periódicamente (p. ej. con pg_cron): SELECT technology_purge_tombstones(INTERVAL '30 days');
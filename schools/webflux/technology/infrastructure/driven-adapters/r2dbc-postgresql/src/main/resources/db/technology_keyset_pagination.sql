@@ -0,0 +1,10 @@
+-- Soporte para la paginación por cursor de GET /api/v1/technologies (ver TechnologySQLProvider.findTechnologiesPage)
+
+-- Índice para buscar por (name, id); la condición (name, id) > (:lastName, :lastId) se resuelve como
+-- rango del índice, por lo que una página profunda cuesta lo mismo que la primera
+CREATE INDEX IF NOT EXISTS idx_technologies_name_id ON technologies (name, id);
+
+ANALYZE technologies;
+
+-- Verificación del plan: debe mostrar Index Scan sobre idx_technologies_name_id sin Sort
+-- EXPLAIN SELECT id, name, description FROM technologies WHERE (name, id) > ('Java', 10) ORDER BY name, id LIMIT 21;
@@ -0,0 +1,8 @@
+-- Soporte para el registro atómico de tecnologías (ver TechnologySQLProvider.insertTechnologyIfNameAbsent)
+
+-- Nombres duplicados existentes que impedirían crear el índice; deben resolverse antes de ejecutarlo
+-- SELECT name, COUNT(*) FROM technologies GROUP BY name HAVING COUNT(*) > 1;
+
+-- Índice único sobre el nombre; es el árbitro de ON CONFLICT (name) DO NOTHING y garantiza que dos
+-- registros concurrentes del mismo nombre no puedan insertarse ambos
+CREATE UNIQUE INDEX IF NOT EXISTS ux_technologies_name ON technologies (name);
@@ -0,0 +1,75 @@
+package co.com.pragma.r2dbc.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("BloomFilter Tests")
+class BloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int PROBES = 100_000;
+
+    @Test
+    @DisplayName("Should report every inserted value as possibly present")
+    void shouldNotReturnFalseNegatives() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        List<String> names = names("Technology ", EXPECTED_INSERTIONS);
+
+        // Act
+        names.forEach(filter::put);
+        filter.put("Ñandú 日本");
+
+        // Assert
+        assertTrue(names.stream().allMatch(filter::mightContain));
+        assertTrue(filter.mightContain("Ñandú 日本"));
+        assertEquals(EXPECTED_INSERTIONS + 1, filter.insertions());
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate close to the configured one at the expected size")
+    void shouldKeepConfiguredFalsePositiveRate() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        names("Technology ", EXPECTED_INSERTIONS).forEach(filter::put);
+
+        // Act
+        long falsePositives = names("Unregistered ", PROBES).stream()
+                .filter(filter::mightContain)
+                .count();
+        double observedRate = (double) falsePositives / PROBES;
+
+        // Assert
+        assertTrue(observedRate <= FALSE_POSITIVE_RATE * 2, () -> "observed rate " + observedRate);
+        assertEquals(FALSE_POSITIVE_RATE, filter.expectedFalsePositiveRate(), FALSE_POSITIVE_RATE / 2);
+    }
+
+    @Test
+    @DisplayName("Should size the bit set from the expected insertions and rate")
+    void shouldSizeBitSet() {
+        // Arrange
+        double optimalBits = -EXPECTED_INSERTIONS * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2));
+
+        // Act
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        BloomFilter empty = new BloomFilter(0, FALSE_POSITIVE_RATE);
+
+        // Assert
+        assertEquals(Math.ceil(optimalBits) / 8, filter.sizeInBytes(), 1.0);
+        assertEquals(8, empty.sizeInBytes());
+        assertEquals(0.0, empty.expectedFalsePositiveRate());
+    }
+
+    private static List<String> names(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> prefix + i)
+                .toList();
+    }
+}
@@ -0,0 +1,117 @@
+package co.com.pragma.r2dbc.utils;
+
+import co.com.pragma.r2dbc.utils.TechnologyNameIndex.Presence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TechnologyNameIndex Tests")
+class TechnologyNameIndexTest {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofDays(1);
+    private static final Duration LOAD_TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private DatabaseClient client;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+
+    @Mock
+    private RowsFetchSpec<String> rows;
+
+    private TechnologyNameIndex index;
+
+    @AfterEach
+    void tearDown() {
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer from the loaded filter and count unconfirmed possible positives")
+    void shouldAnswerFromLoadedFilter() throws InterruptedException {
+        // Arrange
+        index = newIndex(Duration.ofMinutes(5));
+        stubLoad(Flux.just("Java", "Go"));
+        assertEquals(Presence.UNKNOWN, index.lookup("Java"));
+
+        // Act
+        index.start();
+        await(() -> index.expectedFalsePositiveRate() > 0);
+
+        // Assert
+        assertEquals(Presence.UNKNOWN, index.lookup("Java"));
+        assertEquals(Presence.ABSENT, index.lookup("Kotlin"));
+        index.recordAbsent("Java");
+        assertEquals(1.0, index.observedFalsePositiveRate());
+        index.recordPresent("Kotlin");
+        assertEquals(Presence.PRESENT, index.lookup("Kotlin"));
+        index.remove("Kotlin");
+        assertEquals(Presence.UNKNOWN, index.lookup("Kotlin"));
+    }
+
+    @Test
+    @DisplayName("Should keep names registered while a rebuild is reading the catalog")
+    void shouldKeepNamesRegisteredDuringRebuild() throws InterruptedException {
+        // Arrange
+        // Sin TTL el conjunto exacto no responde y cada consulta llega al filtro de Bloom
+        index = newIndex(Duration.ZERO);
+        Sinks.Many<String> catalog = Sinks.many().unicast().onBackpressureBuffer();
+        stubLoad(catalog.asFlux());
+        index.start();
+        verify(client, timeout(LOAD_TIMEOUT.toMillis())).sql(anyString());
+
+        // Act
+        catalog.tryEmitNext("Java");
+        index.recordPresent("Rust");
+        catalog.tryEmitNext("Go");
+        catalog.tryEmitComplete();
+        await(() -> index.expectedFalsePositiveRate() > 0);
+
+        // Assert
+        assertEquals(Presence.UNKNOWN, index.lookup("Java"));
+        assertEquals(Presence.UNKNOWN, index.lookup("Rust"));
+        assertEquals(Presence.ABSENT, index.lookup("Kotlin"));
+    }
+
+    private TechnologyNameIndex newIndex(Duration recentNamesTtl) {
+        return new TechnologyNameIndex(client, true, 1_000, 0.001, 100, recentNamesTtl, REFRESH_INTERVAL);
+    }
+
+    private void stubLoad(Flux<String> names) {
+        when(client.sql(anyString())).thenReturn(executeSpec);
+        doReturn(rows).when(executeSpec).map(any(BiFunction.class));
+        when(rows.all()).thenReturn(names);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + LOAD_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
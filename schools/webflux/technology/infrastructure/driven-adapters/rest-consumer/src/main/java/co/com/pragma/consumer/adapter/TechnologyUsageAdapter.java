@@ -0,0 +1,55 @@
+package co.com.pragma.consumer.adapter;
+
+import co.com.pragma.consumer.dto.TechnologyUsageCountsResponse;
+import co.com.pragma.model.exceptions.BusinessException;
+import co.com.pragma.model.technology.gateways.TechnologyUsageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class TechnologyUsageAdapter implements TechnologyUsageRepository {
+
+    private final WebClient webClient;
+
+    public TechnologyUsageAdapter(@Qualifier("capabilityWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    /**
+     * Consulta al servicio de capacidades, en una única llamada, el conteo de uso de las tecnologías
+     */
+    @Override
+    public Flux<Long> findReferencedIds(List<Long> technologyIds) {
+        if (technologyIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return Flux.deferContextual(ctx -> {
+            String token = ctx.getOrDefault("token", "");
+            log.debug("Calling capability service, endpoint=/api/v1/technologies/usage-counts, technologyIdsCount={}",
+                    technologyIds.size());
+
+            return webClient.post()
+                    .uri("/api/v1/technologies/usage-counts")
+                    .header("Authorization", token)
+                    .bodyValue(Map.of("technologyIds", technologyIds))
+                    .retrieve()
+                    .bodyToMono(TechnologyUsageCountsResponse.class)
+                    .flatMapIterable(response -> response.getData() != null ? response.getData() : List.of())
+                    .filter(usage -> usage.getUsageCount() != null && usage.getUsageCount() > 0)
+                    .map(TechnologyUsageCountsResponse.UsageCount::getTechnologyId)
+                    .onErrorMap(error -> !(error instanceof BusinessException), error -> {
+                        log.error("Error retrieving technology usage counts, technologyIdsCount={}",
+                                technologyIds.size(), error);
+                        return new BusinessException("No fue posible verificar el uso de las tecnologías");
+                    });
+        });
+    }
+}
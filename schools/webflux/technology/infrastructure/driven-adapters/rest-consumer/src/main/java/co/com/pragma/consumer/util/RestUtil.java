@@ -0,0 +1,42 @@
+package co.com.pragma.consumer.util;
+
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import static io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@UtilityClass
+public class RestUtil {
+
+    public WebClient buildWebClient(
+            String host, HttpHeaders headers, int connectionTimeout, int readTimeout, int writeTimeout) {
+
+        return WebClient.builder()
+                .baseUrl(host)
+                .defaultHeaders(httpHeaders -> httpHeaders.addAll(headers))
+                .clientConnector(getClientHttpConnector(connectionTimeout, readTimeout, writeTimeout))
+                .build();
+    }
+
+    public ClientHttpConnector getClientHttpConnector(
+            int connectionTimeout, int readTimeout, int writeTimeout) {
+
+        return new ReactorClientHttpConnector(
+                HttpClient.create()
+                        .compress(true)
+                        .keepAlive(true)
+                        .option(CONNECT_TIMEOUT_MILLIS, connectionTimeout)
+                        .doOnConnected(
+                                connection -> {
+                                    connection.addHandlerLast(new ReadTimeoutHandler(readTimeout, MILLISECONDS));
+                                    connection.addHandlerLast(new WriteTimeoutHandler(writeTimeout, MILLISECONDS));
+                                }));
+    }
+}
@@ -1,11 +1,18 @@
 package co.com.pragma.api;
 
 import co.com.pragma.api.handler.Handler;
+import co.com.pragma.validator.dto.request.TechnologyBatchRequestDto;
 import co.com.pragma.validator.dto.request.TechnologyIdsRequestDto;
 import co.com.pragma.validator.dto.request.TechnologyRequestDto;
+import co.com.pragma.validator.dto.respose.TechnologyBatchItemResponseDto;
+import co.com.pragma.validator.dto.respose.TechnologyChangesResponseDto;
+import co.com.pragma.validator.dto.respose.TechnologyDeletionResponseDto;
+import co.com.pragma.validator.dto.respose.TechnologyPageResponseDto;
 import co.com.pragma.validator.dto.respose.TechnologyResponseDto;
 import co.com.pragma.validator.dto.respose.TechnologySimpleResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -21,6 +28,7 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
 import static org.springframework.web.reactive.function.server.RequestPredicates.DELETE;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
 import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 
@@ -68,6 +76,44 @@ public class RouterRest {
                 }
             )
         ),
+            @RouterOperation(
+                    path = "/api/v1/technologies/batch",
+                    method = org.springframework.web.bind.annotation.RequestMethod.POST,
+                    beanClass = Handler.class,
+                    beanMethod = "registerTechnologies",
+                    operation = @Operation(
+                            operationId = "registerTechnologies",
+                            summary = "Registrar tecnologías de forma masiva",
+                            description = "Registra hasta 1000 tecnologías; los nombres repetidos en la solicitud o ya registrados se omiten y se informa el resultado de cada una",
+                            tags = {"Technologies"},
+                            requestBody = @RequestBody(
+                                    description = "Tecnologías a registrar",
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            schema = @Schema(implementation = TechnologyBatchRequestDto.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Resultado del registro de cada tecnología, en el orden de la solicitud",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    array = @ArraySchema(schema = @Schema(implementation = TechnologyBatchItemResponseDto.class))
+                                            )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Error de validación en los datos de entrada"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "500",
+                                            description = "Error interno del servidor"
+                                    )
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/api/v1/technologies/items",
                     method = org.springframework.web.bind.annotation.RequestMethod.POST,
@@ -106,6 +152,152 @@ public class RouterRest {
                             }
                     )
             ),
+        @RouterOperation(
+            path = "/api/v1/technologies",
+            method = org.springframework.web.bind.annotation.RequestMethod.GET,
+            beanClass = Handler.class,
+            beanMethod = "getTechnologies",
+            operation = @Operation(
+                operationId = "getTechnologies",
+                summary = "Listar el catálogo de tecnologías",
+                description = "Retorna el catálogo ordenado por nombre con paginación por cursor. Con Accept: application/x-ndjson retorna en streaming todas las tecnologías a partir del cursor",
+                tags = {"Technologies"},
+                parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "Cursor retornado por la página anterior; se omite en la primera página"),
+                    @Parameter(in = ParameterIn.QUERY, name = "size", description = "Tamaño de página (1 a 100, por defecto 20)", example = "20")
+                },
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200",
+                        description = "Página de tecnologías y cursor de la página siguiente",
+                        content = {
+                            @Content(
+                                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                schema = @Schema(implementation = TechnologyPageResponseDto.class)
+                            ),
+                            @Content(
+                                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                schema = @Schema(implementation = TechnologyResponseDto.class)
+                            )
+                        }
+                    ),
+                    @ApiResponse(
+                        responseCode = "400",
+                        description = "Cursor o tamaño de página inválido"
+                    ),
+                    @ApiResponse(
+                        responseCode = "500",
+                        description = "Error interno del servidor"
+                    )
+                }
+            )
+        ),
+        @RouterOperation(
+            path = "/api/v1/technologies/suggest",
+            method = org.springframework.web.bind.annotation.RequestMethod.GET,
+            beanClass = Handler.class,
+            beanMethod = "suggestTechnologies",
+            operation = @Operation(
+                operationId = "suggestTechnologies",
+                summary = "Autocompletar nombres de tecnologías",
+                description = "Retorna, en orden alfabético, las tecnologías cuyo nombre empieza por el prefijo sin distinguir mayúsculas. Se resuelve desde un índice en memoria",
+                tags = {"Technologies"},
+                parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "prefix", required = true, description = "Prefijo del nombre", example = "ja"),
+                    @Parameter(in = ParameterIn.QUERY, name = "limit", description = "Cantidad máxima de sugerencias (1 a 50, por defecto 10)", example = "10")
+                },
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200",
+                        description = "Tecnologías sugeridas",
+                        content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = TechnologySimpleResponseDto.class))
+                        )
+                    ),
+                    @ApiResponse(
+                        responseCode = "400",
+                        description = "Límite inválido"
+                    ),
+                    @ApiResponse(
+                        responseCode = "500",
+                        description = "Error interno del servidor"
+                    )
+                }
+            )
+        ),
+        @RouterOperation(
+            path = "/api/v1/technologies/changes",
+            method = org.springframework.web.bind.annotation.RequestMethod.GET,
+            beanClass = Handler.class,
+            beanMethod = "getTechnologyChanges",
+            operation = @Operation(
+                operationId = "getTechnologyChanges",
+                summary = "Consultar los cambios del catálogo de tecnologías",
+                description = "Retorna, en orden de versión, las tecnologías registradas o modificadas y las eliminadas después de la versión indicada. Permite a otros servicios mantener una réplica local del catálogo; con since=0 retorna el catálogo completo",
+                tags = {"Technologies"},
+                parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "since", description = "Última versión aplicada por el consumidor (por defecto 0)", example = "0"),
+                    @Parameter(in = ParameterIn.QUERY, name = "limit", description = "Cantidad máxima de cambios (1 a 1000, por defecto 500)", example = "500")
+                },
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200",
+                        description = "Cambios posteriores a la versión y versión para la siguiente consulta",
+                        content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TechnologyChangesResponseDto.class)
+                        )
+                    ),
+                    @ApiResponse(
+                        responseCode = "400",
+                        description = "Versión o límite inválido"
+                    ),
+                    @ApiResponse(
+                        responseCode = "500",
+                        description = "Error interno del servidor"
+                    )
+                }
+            )
+        ),
+        @RouterOperation(
+            path = "/api/v1/technologies",
+            method = org.springframework.web.bind.annotation.RequestMethod.DELETE,
+            beanClass = Handler.class,
+            beanMethod = "deleteTechnologies",
+            operation = @Operation(
+                operationId = "deleteTechnologies",
+                summary = "Eliminar tecnologías de forma masiva",
+                description = "Elimina las tecnologías indicadas que no están en uso por ninguna capacidad e informa cuáles se eliminaron y cuáles se conservaron",
+                tags = {"Technologies"},
+                requestBody = @RequestBody(
+                    description = "Lista de IDs de tecnologías a eliminar",
+                    required = true,
+                    content = @Content(
+                        mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = TechnologyIdsRequestDto.class)
+                    )
+                ),
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200",
+                        description = "IDs eliminados y conservados",
+                        content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TechnologyDeletionResponseDto.class)
+                        )
+                    ),
+                    @ApiResponse(
+                        responseCode = "400",
+                        description = "Error de validación en los datos de entrada"
+                    ),
+                    @ApiResponse(
+                        responseCode = "500",
+                        description = "Error interno del servidor"
+                    )
+                }
+            )
+        ),
         @RouterOperation(
             path = "/api/v1/technologies/{id}",
             method = org.springframework.web.bind.annotation.RequestMethod.DELETE,
@@ -139,7 +331,12 @@ public class RouterRest {
     })
     public RouterFunction<ServerResponse> routerFunction(Handler handler) {
         return route(POST("/api/v1/technologies"), handler::registerTechnology)
+                .andRoute(POST("/api/v1/technologies/batch"), handler::registerTechnologies)
                 .andRoute(POST("/api/v1/technologies/items"), handler::getTechnologiesByIds)
+                .andRoute(GET("/api/v1/technologies"), handler::getTechnologies)
+                .andRoute(GET("/api/v1/technologies/suggest"), handler::suggestTechnologies)
+                .andRoute(GET("/api/v1/technologies/changes"), handler::getTechnologyChanges)
+                .andRoute(DELETE("/api/v1/technologies"), handler::deleteTechnologies)
                 .andRoute(DELETE("/api/v1/technologies/{id}"), handler::deleteTechnology);
     }
 }
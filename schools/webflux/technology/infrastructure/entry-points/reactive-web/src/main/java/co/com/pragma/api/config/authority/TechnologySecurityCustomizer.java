@@ -10,6 +10,7 @@ public class TechnologySecurityCustomizer implements ISecurityCustomizer {
 
     @Override
     public void customize(ServerHttpSecurity.AuthorizeExchangeSpec spec) {
-        spec.pathMatchers(HttpMethod.POST, "/api/v1/technologies").hasRole("ADMIN");
+        spec.pathMatchers(HttpMethod.POST, "/api/v1/technologies", "/api/v1/technologies/batch").hasRole("ADMIN");
+        spec.pathMatchers(HttpMethod.DELETE, "/api/v1/technologies").hasRole("ADMIN");
     }
 }
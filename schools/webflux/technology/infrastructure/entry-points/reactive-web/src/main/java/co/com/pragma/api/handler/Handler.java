@@ -1,7 +1,13 @@
 package co.com.pragma.api.handler;
 
 import co.com.pragma.usecase.DeleteTechnologyUseCase;
+import co.com.pragma.usecase.DeleteUnreferencedTechnologiesUseCase;
 import co.com.pragma.usecase.GetTechnologiesByIdsUseCase;
+import co.com.pragma.usecase.GetTechnologyChangesUseCase;
+import co.com.pragma.usecase.ListTechnologiesUseCase;
+import co.com.pragma.usecase.RegisterTechnologiesBatchUseCase;
+import co.com.pragma.usecase.SuggestTechnologiesUseCase;
+import co.com.pragma.validator.dto.request.TechnologyBatchRequestDto;
 import co.com.pragma.validator.dto.request.TechnologyIdsRequestDto;
 import co.com.pragma.validator.dto.request.TechnologyRequestDto;
 import co.com.pragma.validator.dto.respose.TechnologyResponseDto;
@@ -25,6 +31,11 @@ public class Handler {
     private final RegisterTechnologyUseCase registerTechnologyUseCase;
     private final GetTechnologiesByIdsUseCase getTechnologiesByIdsUseCase;
     private final DeleteTechnologyUseCase deleteTechnologyUseCase;
+    private final RegisterTechnologiesBatchUseCase registerTechnologiesBatchUseCase;
+    private final DeleteUnreferencedTechnologiesUseCase deleteUnreferencedTechnologiesUseCase;
+    private final ListTechnologiesUseCase listTechnologiesUseCase;
+    private final SuggestTechnologiesUseCase suggestTechnologiesUseCase;
+    private final GetTechnologyChangesUseCase getTechnologyChangesUseCase;
     private final TechnologyApiMapper technologyApiMapper;
 
     public Mono<ServerResponse> registerTechnology(ServerRequest request) {
@@ -38,6 +49,85 @@ public class Handler {
                 .flatMap(this::buildCreatedResponse);
     }
 
+    public Mono<ServerResponse> registerTechnologies(ServerRequest request) {
+        log.info("Handler: registerTechnologies called");
+
+        return request.bodyToMono(TechnologyBatchRequestDto.class)
+                .doOnNext(ValidatorEngine::validate)
+                .map(dto -> technologyApiMapper.toDomainList(dto.getTechnologies()))
+                .flatMap(registerTechnologiesBatchUseCase::execute)
+                .map(technologyApiMapper::toBatchResponse)
+                .flatMap(this::buildOkResponse);
+    }
+
+    public Mono<ServerResponse> getTechnologies(ServerRequest request) {
+        log.info("Handler: getTechnologies called");
+
+        String cursor = request.queryParam("cursor").orElse(null);
+
+        if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(listTechnologiesUseCase.stream(cursor).map(technologyApiMapper::toResponse),
+                            TechnologyResponseDto.class);
+        }
+
+        String sizeStr = request.queryParam("size").orElse(String.valueOf(ListTechnologiesUseCase.DEFAULT_PAGE_SIZE));
+        int size;
+        try {
+            size = Integer.parseInt(sizeStr);
+        } catch (NumberFormatException e) {
+            return ServerResponse.status(HttpStatus.BAD_REQUEST)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("Invalid size format: " + sizeStr);
+        }
+
+        return listTechnologiesUseCase.execute(cursor, size)
+                .map(technologyApiMapper::toPageResponse)
+                .flatMap(this::buildOkResponse);
+    }
+
+    public Mono<ServerResponse> suggestTechnologies(ServerRequest request) {
+        log.info("Handler: suggestTechnologies called");
+
+        String prefix = request.queryParam("prefix").orElse("");
+        String limitStr = request.queryParam("limit").orElse(String.valueOf(SuggestTechnologiesUseCase.DEFAULT_LIMIT));
+        int limit;
+        try {
+            limit = Integer.parseInt(limitStr);
+        } catch (NumberFormatException e) {
+            return ServerResponse.status(HttpStatus.BAD_REQUEST)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("Invalid limit format: " + limitStr);
+        }
+
+        return suggestTechnologiesUseCase.execute(prefix, limit)
+                .map(technologyApiMapper::toSimpleResponse)
+                .collectList()
+                .flatMap(this::buildOkResponse);
+    }
+
+    public Mono<ServerResponse> getTechnologyChanges(ServerRequest request) {
+        log.info("Handler: getTechnologyChanges called");
+
+        String sinceStr = request.queryParam("since").orElse("0");
+        String limitStr = request.queryParam("limit").orElse(String.valueOf(GetTechnologyChangesUseCase.DEFAULT_LIMIT));
+        long since;
+        int limit;
+        try {
+            since = Long.parseLong(sinceStr);
+            limit = Integer.parseInt(limitStr);
+        } catch (NumberFormatException e) {
+            return ServerResponse.status(HttpStatus.BAD_REQUEST)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("Invalid since or limit format: " + sinceStr + ", " + limitStr);
+        }
+
+        return getTechnologyChangesUseCase.execute(since, limit)
+                .map(technologyApiMapper::toChangesResponse)
+                .flatMap(this::buildOkResponse);
+    }
+
     public Mono<ServerResponse> getTechnologiesByIds(ServerRequest request){
         log.info("Handler: getTechnologiesByIds called");
 
@@ -69,6 +159,26 @@ public class Handler {
                 .doOnError(error -> log.error("Error deleting technology, id: {}", id, error));
     }
 
+    public Mono<ServerResponse> deleteTechnologies(ServerRequest request) {
+        log.info("Handler: deleteTechnologies called");
+
+        String token = request.headers().header("Authorization").stream().findFirst().orElse("");
+
+        return request.bodyToMono(TechnologyIdsRequestDto.class)
+                .doOnNext(ValidatorEngine::validate)
+                .flatMap(dto -> deleteUnreferencedTechnologiesUseCase.execute(dto.getTechnologyIds()))
+                .contextWrite(ctx -> ctx.put("token", token))
+                .map(technologyApiMapper::toDeletionResponse)
+                .flatMap(this::buildOkResponse)
+                .doOnError(error -> log.error("Error deleting technologies", error));
+    }
+
+    private Mono<ServerResponse> buildOkResponse(Object responseDto) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(responseDto);
+    }
+
     private Mono<ServerResponse> buildCreatedResponse(Object responseDto) {
         return ServerResponse.status(HttpStatus.CREATED)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -1,12 +1,28 @@
 package co.com.pragma.api;
 
 import co.com.pragma.api.handler.Handler;
+import co.com.pragma.model.exceptions.ValidationException;
 import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyBatchResult;
+import co.com.pragma.model.technology.TechnologyBatchStatus;
+import co.com.pragma.model.technology.TechnologyChanges;
+import co.com.pragma.model.technology.TechnologyDeletion;
+import co.com.pragma.model.technology.TechnologyPage;
 import co.com.pragma.usecase.DeleteTechnologyUseCase;
+import co.com.pragma.usecase.DeleteUnreferencedTechnologiesUseCase;
 import co.com.pragma.usecase.GetTechnologiesByIdsUseCase;
+import co.com.pragma.usecase.GetTechnologyChangesUseCase;
+import co.com.pragma.usecase.ListTechnologiesUseCase;
+import co.com.pragma.usecase.RegisterTechnologiesBatchUseCase;
 import co.com.pragma.usecase.RegisterTechnologyUseCase;
+import co.com.pragma.usecase.SuggestTechnologiesUseCase;
+import co.com.pragma.validator.dto.request.TechnologyBatchRequestDto;
 import co.com.pragma.validator.dto.request.TechnologyIdsRequestDto;
 import co.com.pragma.validator.dto.request.TechnologyRequestDto;
+import co.com.pragma.validator.dto.respose.TechnologyBatchItemResponseDto;
+import co.com.pragma.validator.dto.respose.TechnologyChangesResponseDto;
+import co.com.pragma.validator.dto.respose.TechnologyDeletionResponseDto;
+import co.com.pragma.validator.dto.respose.TechnologyPageResponseDto;
 import co.com.pragma.validator.dto.respose.TechnologyResponseDto;
 import co.com.pragma.validator.dto.respose.TechnologySimpleResponseDto;
 import co.com.pragma.validator.mappers.TechnologyApiMapper;
@@ -25,6 +41,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,6 +57,16 @@ class HandlerTest {
     @Mock
     private DeleteTechnologyUseCase deleteTechnologyUseCase;
     @Mock
+    private RegisterTechnologiesBatchUseCase registerTechnologiesBatchUseCase;
+    @Mock
+    private DeleteUnreferencedTechnologiesUseCase deleteUnreferencedTechnologiesUseCase;
+    @Mock
+    private ListTechnologiesUseCase listTechnologiesUseCase;
+    @Mock
+    private SuggestTechnologiesUseCase suggestTechnologiesUseCase;
+    @Mock
+    private GetTechnologyChangesUseCase getTechnologyChangesUseCase;
+    @Mock
     private TechnologyApiMapper technologyApiMapper;
     @Mock
     private ServerRequest serverRequest;
@@ -86,6 +113,57 @@ class HandlerTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should register technologies batch and return one result per item")
+    void registerTechnologiesSuccess() {
+        // Arrange
+        TechnologyRequestDto java = TechnologyRequestDto.builder()
+                .name("Java")
+                .description("Lenguaje de programación orientado a objetos")
+                .build();
+        TechnologyBatchRequestDto batchRequest = TechnologyBatchRequestDto.builder()
+                .technologies(List.of(java, java))
+                .build();
+        List<TechnologyBatchResult> results = List.of(
+                TechnologyBatchResult.builder().id("1").name("Java").status(TechnologyBatchStatus.CREATED).build(),
+                TechnologyBatchResult.builder().name("Java").status(TechnologyBatchStatus.DUPLICATED_IN_REQUEST).build()
+        );
+
+        when(serverRequest.bodyToMono(TechnologyBatchRequestDto.class)).thenReturn(Mono.just(batchRequest));
+        when(technologyApiMapper.toDomainList(anyList())).thenReturn(List.of(new Technology(), new Technology()));
+        when(registerTechnologiesBatchUseCase.execute(anyList())).thenReturn(Mono.just(results));
+        when(technologyApiMapper.toBatchResponse(results))
+                .thenReturn(List.of(new TechnologyBatchItemResponseDto(), new TechnologyBatchItemResponseDto()));
+
+        // Act
+        Mono<ServerResponse> result = handler.registerTechnologies(serverRequest);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject an empty technologies batch")
+    void registerTechnologiesEmptyBatch() {
+        // Arrange
+        when(serverRequest.bodyToMono(TechnologyBatchRequestDto.class))
+                .thenReturn(Mono.just(TechnologyBatchRequestDto.builder().technologies(List.of()).build()));
+
+        // Act
+        Mono<ServerResponse> result = handler.registerTechnologies(serverRequest);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(registerTechnologiesBatchUseCase);
+    }
+
     @Test
     @DisplayName("Should get technologies by ids successfully")
     void getTechnologiesByIdsSuccess() {
@@ -145,4 +223,161 @@ class HandlerTest {
 
         verifyNoInteractions(deleteTechnologyUseCase);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should delete unreferenced technologies and return deleted and kept ids")
+    void deleteTechnologiesSuccess() {
+        // Arrange
+        TechnologyIdsRequestDto idsRequest = new TechnologyIdsRequestDto();
+        idsRequest.setTechnologyIds(List.of(1L, 2L));
+        TechnologyDeletion deletion = TechnologyDeletion.builder()
+                .deletedIds(List.of(1L))
+                .keptIds(List.of(2L))
+                .build();
+
+        when(serverRequest.headers()).thenReturn(mock(ServerRequest.Headers.class));
+        when(serverRequest.bodyToMono(TechnologyIdsRequestDto.class)).thenReturn(Mono.just(idsRequest));
+        when(deleteUnreferencedTechnologiesUseCase.execute(List.of(1L, 2L))).thenReturn(Mono.just(deletion));
+        when(technologyApiMapper.toDeletionResponse(deletion))
+                .thenReturn(new TechnologyDeletionResponseDto(List.of(1L), List.of(2L)));
+
+        // Act
+        Mono<ServerResponse> result = handler.deleteTechnologies(serverRequest);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return a technologies page")
+    void getTechnologiesSuccess() {
+        // Arrange
+        TechnologyPage page = TechnologyPage.builder()
+                .items(List.of(new Technology()))
+                .nextCursor("next-cursor")
+                .build();
+
+        when(serverRequest.headers()).thenReturn(mock(ServerRequest.Headers.class));
+        when(serverRequest.queryParam("cursor")).thenReturn(Optional.of("cursor"));
+        when(serverRequest.queryParam("size")).thenReturn(Optional.of("10"));
+        when(listTechnologiesUseCase.execute("cursor", 10)).thenReturn(Mono.just(page));
+        when(technologyApiMapper.toPageResponse(page)).thenReturn(new TechnologyPageResponseDto(List.of(), "next-cursor"));
+
+        // Act
+        Mono<ServerResponse> result = handler.getTechnologies(serverRequest);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return BAD REQUEST when size format is invalid")
+    void getTechnologiesInvalidSize() {
+        // Arrange
+        when(serverRequest.headers()).thenReturn(mock(ServerRequest.Headers.class));
+        when(serverRequest.queryParam("cursor")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("size")).thenReturn(Optional.of("abc"));
+
+        // Act
+        Mono<ServerResponse> result = handler.getTechnologies(serverRequest);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.BAD_REQUEST, response.statusCode());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(listTechnologiesUseCase);
+    }
+
+    @Test
+    @DisplayName("Should return the technologies suggested for a prefix")
+    void suggestTechnologiesSuccess() {
+        // Arrange
+        when(serverRequest.queryParam("prefix")).thenReturn(Optional.of("ja"));
+        when(serverRequest.queryParam("limit")).thenReturn(Optional.of("5"));
+        when(suggestTechnologiesUseCase.execute("ja", 5)).thenReturn(Flux.just(new Technology()));
+        when(technologyApiMapper.toSimpleResponse(any())).thenReturn(TechnologySimpleResponseDto.builder().build());
+
+        // Act
+        Mono<ServerResponse> result = handler.suggestTechnologies(serverRequest);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return BAD REQUEST when limit format is invalid")
+    void suggestTechnologiesInvalidLimit() {
+        // Arrange
+        when(serverRequest.queryParam("prefix")).thenReturn(Optional.of("ja"));
+        when(serverRequest.queryParam("limit")).thenReturn(Optional.of("abc"));
+
+        // Act
+        Mono<ServerResponse> result = handler.suggestTechnologies(serverRequest);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.BAD_REQUEST, response.statusCode());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(suggestTechnologiesUseCase);
+    }
+
+    @Test
+    @DisplayName("Should return the technology changes after a version")
+    void getTechnologyChangesSuccess() {
+        // Arrange
+        TechnologyChanges changes = TechnologyChanges.builder().changes(List.of()).version(42L).build();
+
+        when(serverRequest.queryParam("since")).thenReturn(Optional.of("42"));
+        when(serverRequest.queryParam("limit")).thenReturn(Optional.empty());
+        when(getTechnologyChangesUseCase.execute(42L, GetTechnologyChangesUseCase.DEFAULT_LIMIT)).thenReturn(Mono.just(changes));
+        when(technologyApiMapper.toChangesResponse(changes)).thenReturn(new TechnologyChangesResponseDto(List.of(), 42L, false, false));
+
+        // Act
+        Mono<ServerResponse> result = handler.getTechnologyChanges(serverRequest);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return BAD REQUEST when since format is invalid")
+    void getTechnologyChangesInvalidSince() {
+        // Arrange
+        when(serverRequest.queryParam("since")).thenReturn(Optional.of("abc"));
+        when(serverRequest.queryParam("limit")).thenReturn(Optional.empty());
+
+        // Act
+        Mono<ServerResponse> result = handler.getTechnologyChanges(serverRequest);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.BAD_REQUEST, response.statusCode());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(getTechnologyChangesUseCase);
+    }
+}
@@ -0,0 +1,27 @@
+package co.com.pragma.validator.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para solicitar el registro masivo de tecnologías")
+public class TechnologyBatchRequestDto {
+
+    @Valid
+    @NotEmpty(message = "La lista de tecnologías no puede estar vacía")
+    @Size(max = 1000, message = "No se pueden registrar más de 1000 tecnologías por solicitud")
+    @ArraySchema(schema = @Schema(implementation = TechnologyRequestDto.class), maxItems = 1000)
+    private List<TechnologyRequestDto> technologies;
+}
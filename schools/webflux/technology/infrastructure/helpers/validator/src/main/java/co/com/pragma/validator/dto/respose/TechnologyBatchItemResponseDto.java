@@ -0,0 +1,30 @@
+package co.com.pragma.validator.dto.respose;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO de respuesta con el resultado de cada tecnología del registro masivo")
+public class TechnologyBatchItemResponseDto {
+
+    @Schema(description = "Identificador de la tecnología, solo si fue registrada", example = "15")
+    private String id;
+
+    @Schema(description = "Nombre de la tecnología", example = "Java")
+    private String name;
+
+    @Schema(description = "Resultado del registro", example = "CREATED",
+            allowableValues = {"CREATED", "DUPLICATED_IN_REQUEST", "ALREADY_EXISTS"})
+    private String status;
+
+    @Schema(description = "Motivo por el que no se registró", example = "El nombre de la tecnología ya existe")
+    private String message;
+}
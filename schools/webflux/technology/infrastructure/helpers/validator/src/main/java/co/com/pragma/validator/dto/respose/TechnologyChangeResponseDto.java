@@ -0,0 +1,29 @@
+package co.com.pragma.validator.dto.respose;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO de respuesta con el último cambio de una tecnología")
+public class TechnologyChangeResponseDto {
+
+    @Schema(description = "ID de la tecnología", example = "1")
+    private Long id;
+
+    @Schema(description = "Nombre vigente de la tecnología; nulo si fue eliminada", example = "Java")
+    private String name;
+
+    @Schema(description = "Versión del cambio", example = "42")
+    private Long version;
+
+    @Schema(description = "Indica si la tecnología fue eliminada", example = "false")
+    private boolean deleted;
+}
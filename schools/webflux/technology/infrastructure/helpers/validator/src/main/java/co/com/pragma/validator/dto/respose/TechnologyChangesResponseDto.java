@@ -0,0 +1,33 @@
+package co.com.pragma.validator.dto.respose;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO de respuesta con los cambios del catálogo de tecnologías posteriores a una versión")
+public class TechnologyChangesResponseDto {
+
+    @ArraySchema(schema = @Schema(implementation = TechnologyChangeResponseDto.class))
+    private List<TechnologyChangeResponseDto> changes;
+
+    @Schema(description = "Versión a enviar como since en la siguiente consulta", example = "42")
+    private Long version;
+
+    @Schema(description = "Indica si hay más cambios pendientes después de esta versión", example = "false")
+    private boolean hasMore;
+
+    @Schema(description = "Indica que since es anterior a las eliminaciones depuradas y hay que reconstruir desde since=0",
+            example = "false")
+    private boolean resyncRequired;
+}
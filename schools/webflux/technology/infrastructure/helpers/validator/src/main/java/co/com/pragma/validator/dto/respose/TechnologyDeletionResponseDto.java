@@ -0,0 +1,26 @@
+package co.com.pragma.validator.dto.respose;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO de respuesta de la eliminación masiva de tecnologías")
+public class TechnologyDeletionResponseDto {
+
+    @ArraySchema(schema = @Schema(description = "IDs de las tecnologías eliminadas", example = "1"))
+    private List<Long> deletedIds;
+
+    @ArraySchema(schema = @Schema(description = "IDs no eliminados por estar en uso por alguna capacidad o no existir", example = "2"))
+    private List<Long> keptIds;
+}
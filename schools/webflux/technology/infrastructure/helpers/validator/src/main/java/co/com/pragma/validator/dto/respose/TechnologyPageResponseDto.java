@@ -0,0 +1,26 @@
+package co.com.pragma.validator.dto.respose;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO de respuesta con una página del catálogo de tecnologías ordenado por nombre")
+public class TechnologyPageResponseDto {
+
+    @ArraySchema(schema = @Schema(implementation = TechnologyResponseDto.class))
+    private List<TechnologyResponseDto> items;
+
+    @Schema(description = "Cursor de la página siguiente; nulo en la última página", example = "MTA6SmF2YQ")
+    private String nextCursor;
+}
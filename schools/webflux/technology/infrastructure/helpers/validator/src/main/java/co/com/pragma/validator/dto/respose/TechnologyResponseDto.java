@@ -3,9 +3,11 @@ package co.com.pragma.validator.dto.respose;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Value;
 
+@Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
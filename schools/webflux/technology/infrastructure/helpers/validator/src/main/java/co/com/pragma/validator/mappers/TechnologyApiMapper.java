@@ -1,19 +1,39 @@
 package co.com.pragma.validator.mappers;
 
 import co.com.pragma.model.technology.Technology;
+import co.com.pragma.model.technology.TechnologyBatchResult;
+import co.com.pragma.model.technology.TechnologyChanges;
+import co.com.pragma.model.technology.TechnologyDeletion;
+import co.com.pragma.model.technology.TechnologyPage;
 import co.com.pragma.validator.dto.request.TechnologyRequestDto;
+import co.com.pragma.validator.dto.respose.TechnologyBatchItemResponseDto;
+import co.com.pragma.validator.dto.respose.TechnologyChangesResponseDto;
+import co.com.pragma.validator.dto.respose.TechnologyDeletionResponseDto;
+import co.com.pragma.validator.dto.respose.TechnologyPageResponseDto;
 import co.com.pragma.validator.dto.respose.TechnologyResponseDto;
 import co.com.pragma.validator.dto.respose.TechnologySimpleResponseDto;
 import org.mapstruct.Mapper;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface TechnologyApiMapper {
 
     Technology toDomain(TechnologyRequestDto request);
 
+    List<Technology> toDomainList(List<TechnologyRequestDto> requests);
+
     TechnologyResponseDto toResponse(Technology technology);
 
     TechnologySimpleResponseDto toSimpleResponse(Technology technology);
+
+    List<TechnologyBatchItemResponseDto> toBatchResponse(List<TechnologyBatchResult> results);
+
+    TechnologyDeletionResponseDto toDeletionResponse(TechnologyDeletion deletion);
+
+    TechnologyPageResponseDto toPageResponse(TechnologyPage page);
+
+    TechnologyChangesResponseDto toChangesResponse(TechnologyChanges changes);
 }
 
 